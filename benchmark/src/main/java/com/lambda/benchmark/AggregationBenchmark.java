@@ -0,0 +1,139 @@
+package com.lambda.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.App.Rectangle;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Solution.sum, superSum, multiply and averageArea against plain loops over
+ * boxed and primitive inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class AggregationBenchmark {
+    @Param({ "10", "1000", "100000", "10000000" })
+    int size;
+
+    @Param({ "SORTED", "RANDOM", "DUPLICATES" })
+    Distribution distribution;
+
+    int[] ints;
+    long[] longs;
+    List<Integer> boxedInts;
+    List<Long> boxedLongs;
+    List<List<Integer>> nested;
+    List<Rectangle> rectangles;
+
+    @Setup
+    public void setup() {
+        ints = Inputs.ints(size, distribution);
+        longs = Inputs.longs(size, distribution);
+        boxedInts = Inputs.boxed(ints);
+        boxedLongs = Inputs.boxed(longs);
+        nested = Inputs.nested(ints, 100);
+        rectangles = Inputs.rectangles(size, distribution);
+    }
+
+    // sum ------------------------------------
+
+    @Benchmark
+    public int sumStream() {
+        return Solution.sum(boxedInts);
+    }
+
+    @Benchmark
+    public int sumBoxedLoop() {
+        int s = 0;
+        for (var x : boxedInts) {
+            s += x;
+        }
+        return s;
+    }
+
+    @Benchmark
+    public int sumPrimitiveLoop() {
+        int s = 0;
+        for (var x : ints) {
+            s += x;
+        }
+        return s;
+    }
+
+    // superSum -------------------------------
+
+    @Benchmark
+    public int superSumStream() {
+        return Solution.superSum(nested);
+    }
+
+    @Benchmark
+    public int superSumBoxedLoop() {
+        int s = 0;
+        for (var l : nested) {
+            for (var x : l) {
+                s += x;
+            }
+        }
+        return s;
+    }
+
+    // multiply -------------------------------
+
+    @Benchmark
+    public long multiplyStream() {
+        return Solution.multiply(boxedLongs);
+    }
+
+    @Benchmark
+    public long multiplyBoxedLoop() {
+        long p = 1;
+        for (var x : boxedLongs) {
+            p *= x;
+        }
+        return p;
+    }
+
+    @Benchmark
+    public long multiplyPrimitiveLoop() {
+        long p = 1;
+        for (var x : longs) {
+            p *= x;
+        }
+        return p;
+    }
+
+    // averageArea ----------------------------
+
+    @Benchmark
+    public int averageAreaStream() {
+        return Solution.averageArea(rectangles);
+    }
+
+    @Benchmark
+    public int averageAreaLoop() {
+        int s = 0;
+        for (var r : rectangles) {
+            s += r.getWidth() * r.getHeight();
+        }
+        return s / rectangles.size();
+    }
+}
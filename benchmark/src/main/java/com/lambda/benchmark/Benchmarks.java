@@ -0,0 +1,26 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Entry point of benchmarks.jar. Same as org.openjdk.jmh.Main but writes JSON
+ * results to jmh-result.json unless a result format or file is given.
+ */
+public class Benchmarks {
+    public static void main(String[] args) throws Exception {
+        var list = new ArrayList<String>(Arrays.asList(args));
+
+        if (!list.contains("-rf")) {
+            list.add("-rf");
+            list.add("json");
+        }
+
+        if (!list.contains("-rff")) {
+            list.add("-rff");
+            list.add("jmh-result.json");
+        }
+
+        org.openjdk.jmh.Main.main(list.toArray(new String[0]));
+    }
+}
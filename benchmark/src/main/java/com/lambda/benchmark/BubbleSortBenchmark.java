@@ -0,0 +1,80 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Solution;
+import com.lambda.SortEngine;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Solution.bubbleSort (SortEngine) against List.sort and a primitive sort. Every call sorts
+ * a fresh copy so that each invocation sees the same distribution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class BubbleSortBenchmark {
+    @Param({ "10", "1000", "100000", "10000000" })
+    int size;
+
+    @Param({ "SORTED", "RANDOM", "DUPLICATES" })
+    Distribution distribution;
+
+    double[] doubles;
+    List<Double> boxed;
+
+    @Setup
+    public void setup() {
+        doubles = Inputs.doubles(size, distribution);
+        boxed = Inputs.boxed(doubles);
+    }
+
+    @Benchmark
+    public List<Double> bubbleSort() {
+        return Solution.bubbleSort(new ArrayList<Double>(boxed), Double::compare);
+    }
+
+    @Benchmark
+    public List<Double> bubbleSortNatural() {
+        return Solution.bubbleSort(new ArrayList<Double>(boxed), SortEngine.NATURAL);
+    }
+
+    @Benchmark
+    public List<Double> bubbleSortLinked() {
+        return Solution.bubbleSort(new LinkedList<Double>(boxed), Double::compare);
+    }
+
+    @Benchmark
+    public List<Double> listSort() {
+        var l = new ArrayList<Double>(boxed);
+        l.sort(Comparator.<Double>naturalOrder().reversed());
+        return l;
+    }
+
+    @Benchmark
+    public double[] primitiveSort() {
+        var arr = doubles.clone();
+        Arrays.sort(arr); // Ascending, the caller reads it backwards
+        return arr;
+    }
+}
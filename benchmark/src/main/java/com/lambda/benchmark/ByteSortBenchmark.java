@@ -0,0 +1,74 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.CountingSort;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Solution.sort (counting sort for natural/reversed order) against List.sort
+ * with the same comparator, for Byte and Short lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class ByteSortBenchmark {
+    @Param({ "100000", "10000000", "30000000" })
+    int size;
+
+    List<Byte> bytes;
+    List<Short> shorts;
+
+    @Setup
+    public void setup() {
+        var ints = Inputs.ints(size, Distribution.RANDOM);
+        bytes = new ArrayList<Byte>(size);
+        shorts = new ArrayList<Short>(size);
+        for (var x : ints) {
+            bytes.add((byte) x);
+            shorts.add((short) x);
+        }
+    }
+
+    @Benchmark
+    public List<Byte> listSortBytes() {
+        var l = new ArrayList<Byte>(bytes);
+        l.sort(Byte::compare);
+        return l;
+    }
+
+    @Benchmark
+    public List<Byte> countingSortBytes() {
+        return Solution.sort(new ArrayList<Byte>(bytes), Byte::compare);
+    }
+
+    @Benchmark
+    public List<Short> listSortShorts() {
+        var l = new ArrayList<Short>(shorts);
+        l.sort(Short::compare);
+        return l;
+    }
+
+    @Benchmark
+    public List<Short> countingSortShorts() {
+        return CountingSort.sortShorts(new ArrayList<Short>(shorts), Short::compare);
+    }
+}
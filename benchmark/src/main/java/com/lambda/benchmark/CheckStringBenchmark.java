@@ -0,0 +1,101 @@
+package com.lambda.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.DigitValidator;
+import com.lambda.Solution;
+
+/**
+ * Validating a batch of numeric ids with Solution.checkString against the
+ * DigitValidator char, byte and newline delimited buffer paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckStringBenchmark {
+    @Param({ "10000" })
+    int count;
+
+    @Param({ "8", "20", "64" })
+    int length;
+
+    String[] ids;
+    byte[][] bytes;
+    ByteBuffer lines;
+
+    @Setup
+    public void setup() {
+        var rnd = new Random(Inputs.SEED);
+        var sb = new StringBuilder();
+        ids = new String[count];
+        bytes = new byte[count][];
+
+        for (int i = 0; i < count; ++i) {
+            var id = new StringBuilder();
+            for (int j = 0; j < length; ++j) {
+                id.append((char) ('0' + rnd.nextInt(10)));
+            }
+            ids[i] = id.toString();
+            bytes[i] = ids[i].getBytes(StandardCharsets.ISO_8859_1);
+            sb.append(ids[i]).append('\n');
+        }
+
+        lines = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Benchmark
+    public int checkString() {
+        int n = 0;
+        for (var s : ids) {
+            n += Solution.checkString(s, Solution.digit()) ? 1 : 0;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int charPredicate() {
+        int n = 0;
+        for (var s : ids) {
+            n += DigitValidator.check(s, DigitValidator.DIGIT) ? 1 : 0;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int latin1Bytes() {
+        int n = 0;
+        for (var b : bytes) {
+            n += DigitValidator.isDigits(b, 0, b.length) ? 1 : 0;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public BitSet batchStrings() {
+        return DigitValidator.isDigits(ids);
+    }
+
+    @Benchmark
+    public BitSet batchLines() {
+        return DigitValidator.isDigitsLines(lines);
+    }
+}
@@ -0,0 +1,143 @@
+package com.lambda.benchmark;
+
+import java.util.HashSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.ConcurrentAccumulators;
+
+/**
+ * Throughput of adding values from many threads into one shared accumulator:
+ * ConcurrentAccumulators against a lock and a single AtomicLong. The nested
+ * classes run the same benchmarks with 1 to 64 threads, for example
+ * "ContentionBenchmark.T16".
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class ContentionBenchmark {
+    final Object lock = new Object();
+    long lockedSum;
+    long lockedProduct = 1;
+    short lockedMax = Short.MIN_VALUE;
+    final HashSet<Integer> lockedSet = new HashSet<Integer>();
+
+    final AtomicLong atomicSum = new AtomicLong();
+
+    final ConcurrentAccumulators.Sum sum = new ConcurrentAccumulators.Sum();
+    final ConcurrentAccumulators.Max max = new ConcurrentAccumulators.Max();
+    final ConcurrentAccumulators.Product product = new ConcurrentAccumulators.Product();
+    final ConcurrentAccumulators.Distinct distinct = new ConcurrentAccumulators.Distinct();
+
+    static int next() {
+        return ThreadLocalRandom.current().nextInt(1 << 16);
+    }
+
+    // sum ----------------------------------------
+
+    @Benchmark
+    public void sumLocked() {
+        int x = next();
+        synchronized (lock) {
+            lockedSum += x;
+        }
+    }
+
+    @Benchmark
+    public void sumAtomic() {
+        atomicSum.addAndGet(next());
+    }
+
+    @Benchmark
+    public void sumStriped() {
+        sum.add(next());
+    }
+
+    // max ----------------------------------------
+
+    @Benchmark
+    public void maxLocked() {
+        short x = (short) next();
+        synchronized (lock) {
+            lockedMax = x > lockedMax ? x : lockedMax;
+        }
+    }
+
+    @Benchmark
+    public void maxStriped() {
+        max.add((short) next());
+    }
+
+    // product ------------------------------------
+
+    @Benchmark
+    public void productLocked() {
+        long x = next() | 1;
+        synchronized (lock) {
+            lockedProduct *= x;
+        }
+    }
+
+    @Benchmark
+    public void productStriped() {
+        product.add(next() | 1);
+    }
+
+    // distinct -----------------------------------
+
+    @Benchmark
+    public void distinctLocked() {
+        int x = next();
+        synchronized (lock) {
+            lockedSet.add(x);
+        }
+    }
+
+    @Benchmark
+    public void distinctConcurrent() {
+        distinct.add(next());
+    }
+
+    @Threads(1)
+    public static class T1 extends ContentionBenchmark {
+    }
+
+    @Threads(2)
+    public static class T2 extends ContentionBenchmark {
+    }
+
+    @Threads(4)
+    public static class T4 extends ContentionBenchmark {
+    }
+
+    @Threads(8)
+    public static class T8 extends ContentionBenchmark {
+    }
+
+    @Threads(16)
+    public static class T16 extends ContentionBenchmark {
+    }
+
+    @Threads(32)
+    public static class T32 extends ContentionBenchmark {
+    }
+
+    @Threads(64)
+    public static class T64 extends ContentionBenchmark {
+    }
+}
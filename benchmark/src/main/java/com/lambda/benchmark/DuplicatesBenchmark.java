@@ -0,0 +1,85 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Solution.duplicates and duplicates2 against explicit hash set loops and the
+ * primitive IntHashSet/LongHashSet overloads. Run with -prof gc, then
+ * gc.alloc.rate.norm divided by size is the memory per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class DuplicatesBenchmark {
+    @Param({ "10", "1000", "100000", "10000000" })
+    int size;
+
+    @Param({ "SORTED", "RANDOM", "DUPLICATES" })
+    Distribution distribution;
+
+    int[] intArray;
+    long[] longArray;
+    List<Integer> ints;
+    List<Long> longs;
+
+    @Setup
+    public void setup() {
+        intArray = Inputs.ints(size, distribution);
+        longArray = Inputs.longs(size, distribution);
+        ints = Inputs.boxed(intArray);
+        longs = Inputs.boxed(longArray);
+    }
+
+    @Benchmark
+    public Set<Long> duplicatesStream() {
+        return Solution.duplicates(longs);
+    }
+
+    @Benchmark
+    public Set<Long> duplicatesHashSet() {
+        return new HashSet<Long>(longs);
+    }
+
+    @Benchmark
+    public long[] duplicatesPrimitive() {
+        return Solution.duplicates(longArray);
+    }
+
+    @Benchmark
+    public List<Integer> duplicates2Stream() {
+        return Solution.duplicates2(ints);
+    }
+
+    @Benchmark
+    public List<Integer> duplicates2LinkedHashSet() {
+        return new ArrayList<Integer>(new LinkedHashSet<Integer>(ints));
+    }
+
+    @Benchmark
+    public int[] duplicates2Primitive() {
+        return Solution.duplicates2(intArray);
+    }
+}
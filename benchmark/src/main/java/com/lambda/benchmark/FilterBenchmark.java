@@ -0,0 +1,84 @@
+package com.lambda.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.ShortFilter;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Solution.filter against the ShortFilter list, push and batch variants. The
+ * generator replays a precomputed array ending with 0.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class FilterBenchmark {
+    @Param({ "10", "1000", "100000", "10000000" })
+    int size;
+
+    short[] values;
+    int next;
+
+    @Setup
+    public void setup() {
+        var ints = Inputs.ints(size, Distribution.RANDOM);
+        values = new short[size + 1];
+        for (int i = 0; i < size; ++i) {
+            values[i] = (short) (ints[i] | 0x100); // Never 0 before the end
+        }
+    }
+
+    short nextValue() {
+        var x = values[next++];
+        if (x == 0) {
+            next = 0;
+        }
+        return x;
+    }
+
+    @Benchmark
+    public List<Short> filter() {
+        return Solution.filter(() -> nextValue());
+    }
+
+    @Benchmark
+    public List<Short> filterEngine() {
+        return ShortFilter.filter(() -> nextValue(), ShortFilter.ODD);
+    }
+
+    @Benchmark
+    public long forEach() {
+        long[] sum = { 0 };
+        ShortFilter.forEach(() -> nextValue(), ShortFilter.ODD, x -> sum[0] += x);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long batches() {
+        long[] sum = { 0 };
+        ShortFilter.batches(() -> nextValue(), ShortFilter.ODD, ShortFilter.DEFAULT_BATCH, (batch, len) -> {
+            for (int i = 0; i < len; ++i) {
+                sum[0] += batch[i];
+            }
+            return true;
+        });
+        return sum[0];
+    }
+}
@@ -0,0 +1,57 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.FloatSort;
+import com.lambda.Solution;
+
+/**
+ * Solution.sort2 with a lambda comparator (List.sort) against the radix path
+ * of FloatSort.NATURAL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class FloatSortBenchmark {
+    @Param({ "1000", "100000", "10000000" })
+    int size;
+
+    List<Float> floats;
+
+    @Setup
+    public void setup() {
+        var rnd = new Random(Inputs.SEED);
+        floats = new ArrayList<Float>(size);
+        for (int i = 0; i < size; ++i) {
+            floats.add((float) rnd.nextGaussian());
+        }
+    }
+
+    @Benchmark
+    public List<Float> comparator() {
+        return Solution.sort2(new ArrayList<Float>(floats), Float::compare);
+    }
+
+    @Benchmark
+    public List<Float> radix() {
+        return Solution.sort2(new ArrayList<Float>(floats), FloatSort.NATURAL);
+    }
+}
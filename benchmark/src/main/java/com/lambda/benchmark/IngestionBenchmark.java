@@ -0,0 +1,91 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Ingestion;
+import com.lambda.ShortFilter.ShortSupplier;
+import com.lambda.Solution;
+
+/**
+ * Many blocking generators filtered one after the other with Solution.filter
+ * against all at once with Ingestion. Each generator yields 500 values and
+ * blocks for 100us every 100 values, like a socket read. The heap is kept
+ * small to show the per source cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+@State(Scope.Benchmark)
+public class IngestionBenchmark {
+    static final int VALUES = 500;
+
+    @Param({ "10", "100", "1000" })
+    int sources;
+
+    Ingestion ingestion;
+
+    @Setup
+    public void setup() {
+        ingestion = new Ingestion();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ingestion.close();
+    }
+
+    static ShortSupplier blocking() {
+        var n = new int[1];
+        return () -> {
+            if (n[0] == VALUES) {
+                return 0;
+            }
+            if (++n[0] % 100 == 0) {
+                LockSupport.parkNanos(100_000);
+            }
+            return (short) (n[0] | 0x100);
+        };
+    }
+
+    @Benchmark
+    public long sequential() {
+        long count = 0;
+        for (int i = 0; i < sources; ++i) {
+            var gen = blocking();
+            count += Solution.filter(() -> gen.getAsShort()).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long ingestion() {
+        var started = new ArrayList<Ingestion.Source>(sources);
+        for (int i = 0; i < sources; ++i) {
+            started.add(ingestion.start(blocking()));
+        }
+
+        long count = 0;
+        for (var s : started) {
+            count += s.forEach(x -> {
+            });
+        }
+        return count;
+    }
+}
@@ -0,0 +1,145 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.lambda.App;
+import com.lambda.App.Rectangle;
+
+/**
+ * Deterministic input generators shared by all benchmarks.
+ */
+public class Inputs {
+    public enum Distribution {
+        SORTED, // 0, 1, 2, ...
+        RANDOM, // Uniform over the whole range
+        DUPLICATES // Only a handful of distinct values
+    }
+
+    static final long SEED = 42;
+
+    // Number of distinct values used by Distribution.DUPLICATES.
+    static final int FEW = 16;
+
+    public static int[] ints(int size, Distribution dist) {
+        var rnd = new Random(SEED);
+        var arr = new int[size];
+
+        for (int i = 0; i < size; ++i) {
+            switch (dist) {
+            case SORTED:
+                arr[i] = i;
+                break;
+            case RANDOM:
+                arr[i] = rnd.nextInt();
+                break;
+            case DUPLICATES:
+                arr[i] = rnd.nextInt(FEW);
+                break;
+            }
+        }
+
+        return arr;
+    }
+
+    public static long[] longs(int size, Distribution dist) {
+        var rnd = new Random(SEED);
+        var arr = new long[size];
+
+        for (int i = 0; i < size; ++i) {
+            switch (dist) {
+            case SORTED:
+                arr[i] = i;
+                break;
+            case RANDOM:
+                arr[i] = rnd.nextLong();
+                break;
+            case DUPLICATES:
+                arr[i] = rnd.nextInt(FEW);
+                break;
+            }
+        }
+
+        return arr;
+    }
+
+    public static double[] doubles(int size, Distribution dist) {
+        var rnd = new Random(SEED);
+        var arr = new double[size];
+
+        for (int i = 0; i < size; ++i) {
+            switch (dist) {
+            case SORTED:
+                arr[i] = i;
+                break;
+            case RANDOM:
+                arr[i] = rnd.nextDouble();
+                break;
+            case DUPLICATES:
+                arr[i] = rnd.nextInt(FEW);
+                break;
+            }
+        }
+
+        return arr;
+    }
+
+    public static List<Integer> boxed(int[] arr) {
+        var l = new ArrayList<Integer>(arr.length);
+        for (var x : arr) {
+            l.add(x);
+        }
+        return l;
+    }
+
+    public static List<Long> boxed(long[] arr) {
+        var l = new ArrayList<Long>(arr.length);
+        for (var x : arr) {
+            l.add(x);
+        }
+        return l;
+    }
+
+    public static List<Double> boxed(double[] arr) {
+        var l = new ArrayList<Double>(arr.length);
+        for (var x : arr) {
+            l.add(x);
+        }
+        return l;
+    }
+
+    public static Set<Long> set(long[] arr) {
+        var s = new HashSet<Long>(arr.length * 2);
+        for (var x : arr) {
+            s.add(x);
+        }
+        return s;
+    }
+
+    // Split "arr" into consecutive inner lists of "width" elements each.
+    public static List<List<Integer>> nested(int[] arr, int width) {
+        var l = new ArrayList<List<Integer>>(arr.length / width + 1);
+        for (int i = 0; i < arr.length; i += width) {
+            l.add(boxed(Arrays.copyOfRange(arr, i, Math.min(arr.length, i + width))));
+        }
+        return l;
+    }
+
+    // Widths and heights are kept small so that w * h fits an int.
+    public static List<Rectangle> rectangles(int size, Distribution dist) {
+        var app = new App();
+        var w = ints(size, dist);
+        var h = ints(size, Distribution.RANDOM);
+        var l = new ArrayList<Rectangle>(size);
+
+        for (int i = 0; i < size; ++i) {
+            l.add(app.new Rectangle(Math.abs(w[i] % 1000), Math.abs(h[i] % 1000)));
+        }
+
+        return l;
+    }
+}
@@ -0,0 +1,78 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Execution;
+import com.lambda.LongList;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Solution.largeMultiply against a two pass loop over the same set and the
+ * single pass largeMultiplyView, sequential and on the common pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class LargeMultiplyBenchmark {
+    @Param({ "10", "1000", "100000", "10000000" })
+    int size;
+
+    // A set has no duplicates, so only the value spread matters here.
+    @Param({ "SORTED", "RANDOM" })
+    Distribution distribution;
+
+    Set<Long> set;
+
+    @Setup
+    public void setup() {
+        set = Inputs.set(Inputs.longs(size, distribution));
+    }
+
+    @Benchmark
+    public List<Long> largeMultiplyStream() {
+        return Solution.largeMultiply(set);
+    }
+
+    @Benchmark
+    public List<Long> largeMultiplyLoop() {
+        var max = Long.MIN_VALUE;
+        for (var x : set) {
+            max = Math.max(max, x);
+        }
+
+        var l = new ArrayList<Long>(set.size());
+        for (var x : set) {
+            l.add(x * max);
+        }
+        return l;
+    }
+
+    @Benchmark
+    public LongList largeMultiplyView() {
+        return Solution.largeMultiplyView(set);
+    }
+
+    @Benchmark
+    public LongList largeMultiplyViewParallel() {
+        return Solution.largeMultiplyView(set, Execution.commonPool());
+    }
+}
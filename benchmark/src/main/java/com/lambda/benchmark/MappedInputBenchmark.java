@@ -0,0 +1,91 @@
+package com.lambda.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Execution;
+import com.lambda.MappedInput;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Summing a file of ints by parsing it into a List for Solution.sum against
+ * MappedInput, sequentially and chunked over the common pool. The file stays
+ * in the page cache, so this measures the in memory part only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class MappedInputBenchmark {
+    @Param({ "100000", "10000000", "100000000" })
+    int size;
+
+    Path file;
+    MappedInput sequential;
+    MappedInput parallel;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("ints", ".bin");
+        var ints = Inputs.ints(size, Distribution.RANDOM);
+
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            for (var x : ints) {
+                out.writeInt(x);
+            }
+        }
+
+        sequential = new MappedInput(file);
+        parallel = new MappedInput(file, ByteOrder.BIG_ENDIAN, Execution.commonPool(), 1 << 22);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int parseAndSum() throws IOException {
+        var l = new ArrayList<Integer>(size);
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (int i = 0; i < size; ++i) {
+                l.add(in.readInt());
+            }
+        }
+        return Solution.sum(l);
+    }
+
+    @Benchmark
+    public int mappedSequential() throws IOException {
+        return sequential.sum();
+    }
+
+    @Benchmark
+    public int mappedParallel() throws IOException {
+        return parallel.sum();
+    }
+}
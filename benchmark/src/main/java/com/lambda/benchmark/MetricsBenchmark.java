@@ -0,0 +1,76 @@
+package com.lambda.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.InstrumentedSolution;
+import com.lambda.Metrics;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Overhead of InstrumentedSolution over Solution with metrics disabled and
+ * enabled, on small inputs where it shows the most.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    @Param({ "10", "1000" })
+    int size;
+
+    @Param({ "false", "true" })
+    boolean enabled;
+
+    List<Integer> boxedInts;
+    String digits;
+
+    @Setup
+    public void setup() {
+        boxedInts = Inputs.boxed(Inputs.ints(size, Distribution.RANDOM));
+        digits = "7".repeat(size);
+        Metrics.setEnabled(enabled);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Metrics.setEnabled(false);
+        Metrics.reset();
+    }
+
+    @Benchmark
+    public int sumDirect() {
+        return Solution.sum(boxedInts);
+    }
+
+    @Benchmark
+    public int sumInstrumented() {
+        return InstrumentedSolution.sum(boxedInts);
+    }
+
+    @Benchmark
+    public boolean checkStringDirect() {
+        return Solution.checkString(digits, Solution.digit());
+    }
+
+    @Benchmark
+    public boolean checkStringInstrumented() {
+        return InstrumentedSolution.checkString(digits, Solution.digit());
+    }
+}
@@ -0,0 +1,85 @@
+package com.lambda.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.OffHeapIntLists;
+import com.lambda.OffHeapLongs;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * superSum and largeMultiply over boxed heap inputs against OffHeapIntLists and
+ * OffHeapLongs. The "heap" parameter selects which form is built, and the heap
+ * in use after building it is printed during setup. Run with -prof gc for the
+ * GC counts and times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx6g", "-XX:MaxDirectMemorySize=2g" })
+@State(Scope.Benchmark)
+public class OffHeapBenchmark {
+    @Param({ "100000", "10000000" })
+    int size;
+
+    @Param({ "true", "false" })
+    boolean heap;
+
+    List<List<Integer>> nested;
+    Set<Long> set;
+    OffHeapIntLists offHeapNested;
+    OffHeapLongs offHeapLongs;
+
+    @Setup
+    public void setup() {
+        var ints = Inputs.ints(size, Distribution.RANDOM);
+        var longs = Inputs.longs(size, Distribution.SORTED);
+
+        if (heap) {
+            nested = Inputs.nested(ints, 100);
+            set = Inputs.set(longs);
+        } else {
+            offHeapNested = new OffHeapIntLists(size / 100 + 1, size);
+            for (int i = 0; i < size; i += 100) {
+                offHeapNested.add(ints, i, Math.min(size, i + 100));
+            }
+            offHeapLongs = OffHeapLongs.of(longs);
+        }
+
+        System.gc();
+        var used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        System.out.println("Heap used after setup: " + used / (1024 * 1024) + " MiB");
+    }
+
+    @Benchmark
+    public long superSum() {
+        return heap ? Solution.superSum(nested) : Solution.superSum(offHeapNested);
+    }
+
+    @Benchmark
+    public long largeMultiply() {
+        if (heap) {
+            return Solution.largeMultiply(set).size();
+        }
+
+        // Scales in place, so the values wrap around over the iterations but the work
+        // per call stays the same.
+        return Solution.largeMultiply(offHeapLongs).size();
+    }
+}
@@ -0,0 +1,97 @@
+package com.lambda.benchmark;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.App.Rectangle;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * The common, non overflowing case of sum, multiply and averageArea against
+ * their *Exact and *Wide variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class OverflowBenchmark {
+    @Param({ "10", "1000", "100000", "10000000" })
+    int size;
+
+    List<Integer> ints;
+    List<Long> longs;
+    List<Rectangle> rectangles;
+
+    @Setup
+    public void setup() {
+        var rnd = new Random(Inputs.SEED);
+
+        // Small values so that neither the int sum nor the product overflows.
+        ints = new ArrayList<Integer>(size);
+        longs = new ArrayList<Long>(size);
+        for (int i = 0; i < size; ++i) {
+            ints.add(rnd.nextInt(100));
+            longs.add(rnd.nextBoolean() ? 1l : -1l);
+        }
+
+        rectangles = Inputs.rectangles(size, Distribution.RANDOM);
+    }
+
+    @Benchmark
+    public int sum() {
+        return Solution.sum(ints);
+    }
+
+    @Benchmark
+    public int sumExact() {
+        return Solution.sumExact(ints);
+    }
+
+    @Benchmark
+    public long sumWide() {
+        return Solution.sumWide(ints);
+    }
+
+    @Benchmark
+    public long multiply() {
+        return Solution.multiply(longs);
+    }
+
+    @Benchmark
+    public long multiplyExact() {
+        return Solution.multiplyExact(longs);
+    }
+
+    @Benchmark
+    public BigInteger multiplyWide() {
+        return Solution.multiplyWide(longs);
+    }
+
+    @Benchmark
+    public int averageArea() {
+        return Solution.averageArea(rectangles);
+    }
+
+    @Benchmark
+    public long averageAreaWide() {
+        return Solution.averageAreaWide(rectangles);
+    }
+}
@@ -0,0 +1,112 @@
+package com.lambda.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Execution;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Scaling of the Execution modes over the number of worker threads. A
+ * parallelism of 0 means Execution.SEQUENTIAL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+    @Param({ "100000", "10000000" })
+    int size;
+
+    @Param({ "0", "1", "2", "4", "8", "16", "32" })
+    int parallelism;
+
+    ForkJoinPool pool;
+    Execution exec;
+
+    List<Integer> ints;
+    List<Long> longs;
+    Set<Integer> set;
+    Set<Long> longSet;
+    List<List<Integer>> nested;
+
+    @Setup
+    public void setup() {
+        if (parallelism == 0) {
+            exec = Execution.SEQUENTIAL;
+        } else {
+            pool = new ForkJoinPool(parallelism);
+            exec = Execution.pool(pool);
+        }
+
+        var arr = Inputs.ints(size, Distribution.RANDOM);
+        var larr = Inputs.longs(size, Distribution.SORTED);
+
+        ints = Inputs.boxed(arr);
+        longs = Inputs.boxed(Inputs.longs(size, Distribution.DUPLICATES));
+        set = new HashSet<Integer>(ints);
+        longSet = Inputs.set(larr);
+        nested = Inputs.nested(arr, 100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> fizz() {
+        return Solution.fizz(set, exec);
+    }
+
+    @Benchmark
+    public List<Double> cast() {
+        return Solution.cast(ints, exec);
+    }
+
+    @Benchmark
+    public Set<Long> duplicates() {
+        return Solution.duplicates(longs, exec);
+    }
+
+    @Benchmark
+    public List<Integer> duplicates2() {
+        return Solution.duplicates2(ints, exec);
+    }
+
+    @Benchmark
+    public int sum() {
+        return Solution.sum(ints, exec);
+    }
+
+    @Benchmark
+    public int superSum() {
+        return Solution.superSum(nested, exec);
+    }
+
+    @Benchmark
+    public List<Long> largeMultiply() {
+        return Solution.largeMultiply(longSet, exec);
+    }
+}
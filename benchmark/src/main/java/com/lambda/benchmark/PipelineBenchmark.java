@@ -0,0 +1,63 @@
+package com.lambda.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Pipeline;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * sum(duplicates2(fizz(...))) as chained Solution calls against one fused
+ * Pipeline, from boxed and from primitive input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+    @Param({ "1000", "100000", "10000000" })
+    int size;
+
+    @Param({ "RANDOM", "DUPLICATES" })
+    Distribution distribution;
+
+    int[] ints;
+    Set<Integer> set;
+
+    @Setup
+    public void setup() {
+        ints = Inputs.ints(size, distribution);
+        set = new HashSet<Integer>(Inputs.boxed(ints));
+    }
+
+    @Benchmark
+    public int chained() {
+        return Solution.sum(Solution.duplicates2(Solution.fizz(set)));
+    }
+
+    @Benchmark
+    public int fusedBoxed() {
+        return Pipeline.of(set).filter(x -> x % 3 == 0).distinct().sum();
+    }
+
+    @Benchmark
+    public int fusedPrimitive() {
+        return Pipeline.of(ints).filter(x -> x % 3 == 0).distinct().sum();
+    }
+}
@@ -0,0 +1,124 @@
+package com.lambda.benchmark;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Boxed Solution.sum, max, multiply and cast against their primitive array and
+ * buffer overloads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class PrimitiveBenchmark {
+    @Param({ "10", "1000", "100000", "10000000" })
+    int size;
+
+    int[] ints;
+    short[] shorts;
+    long[] longs;
+    IntBuffer intBuffer;
+    ShortBuffer shortBuffer;
+    LongBuffer longBuffer;
+    List<Integer> boxedInts;
+    List<Short> boxedShorts;
+    List<Long> boxedLongs;
+
+    @Setup
+    public void setup() {
+        ints = Inputs.ints(size, Distribution.RANDOM);
+        longs = Inputs.longs(size, Distribution.RANDOM);
+        shorts = new short[size];
+        for (int i = 0; i < size; ++i) {
+            shorts[i] = (short) ints[i];
+        }
+
+        intBuffer = IntBuffer.wrap(ints);
+        shortBuffer = ShortBuffer.wrap(shorts);
+        longBuffer = LongBuffer.wrap(longs);
+
+        boxedInts = Inputs.boxed(ints);
+        boxedLongs = Inputs.boxed(longs);
+        boxedShorts = new ArrayList<Short>(size);
+        for (var x : shorts) {
+            boxedShorts.add(x);
+        }
+    }
+
+    @Benchmark
+    public int sumBoxed() {
+        return Solution.sum(boxedInts);
+    }
+
+    @Benchmark
+    public int sumArray() {
+        return Solution.sum(ints);
+    }
+
+    @Benchmark
+    public int sumBuffer() {
+        return Solution.sum(intBuffer);
+    }
+
+    @Benchmark
+    public short maxBoxed() {
+        return Solution.max(boxedShorts);
+    }
+
+    @Benchmark
+    public short maxArray() {
+        return Solution.max(shorts);
+    }
+
+    @Benchmark
+    public short maxBuffer() {
+        return Solution.max(shortBuffer);
+    }
+
+    @Benchmark
+    public long multiplyBoxed() {
+        return Solution.multiply(boxedLongs);
+    }
+
+    @Benchmark
+    public long multiplyArray() {
+        return Solution.multiply(longs);
+    }
+
+    @Benchmark
+    public long multiplyBuffer() {
+        return Solution.multiply(longBuffer);
+    }
+
+    @Benchmark
+    public List<Double> castBoxed() {
+        return Solution.cast(boxedInts);
+    }
+
+    @Benchmark
+    public double[] castArray() {
+        return Solution.cast(ints);
+    }
+}
@@ -0,0 +1,113 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.App;
+import com.lambda.App.Rectangle;
+import com.lambda.RectangleBatch;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Area aggregations over List<Rectangle> against RectangleBatch. Run the build*
+ * benchmarks with -prof gc: gc.alloc.rate.norm divided by size gives the bytes
+ * per rectangle of each form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class RectangleBatchBenchmark {
+    @Param({ "1000", "100000", "10000000" })
+    int size;
+
+    List<Rectangle> rectangles;
+    RectangleBatch batch;
+    int[] widths;
+    int[] heights;
+
+    @Setup
+    public void setup() {
+        rectangles = Inputs.rectangles(size, Distribution.RANDOM);
+        batch = RectangleBatch.of(rectangles);
+        widths = new int[size];
+        heights = new int[size];
+        for (int i = 0; i < size; ++i) {
+            widths[i] = batch.width(i);
+            heights[i] = batch.height(i);
+        }
+    }
+
+    @Benchmark
+    public int averageAreaList() {
+        return Solution.averageArea(rectangles);
+    }
+
+    @Benchmark
+    public int averageAreaBatch() {
+        return batch.averageArea();
+    }
+
+    @Benchmark
+    public long averageAreaWideList() {
+        return Solution.averageAreaWide(rectangles);
+    }
+
+    @Benchmark
+    public long averageAreaWideBatch() {
+        return batch.averageAreaWide();
+    }
+
+    @Benchmark
+    public long maxAreaList() {
+        return rectangles.stream().mapToLong(r -> (long) r.getWidth() * r.getHeight()).max().getAsLong();
+    }
+
+    @Benchmark
+    public long maxAreaBatch() {
+        return batch.maxArea();
+    }
+
+    @Benchmark
+    public long[] histogramBatch() {
+        return batch.histogram(0, 10_000, 100);
+    }
+
+    @Benchmark
+    public RectangleBatch adapt() {
+        return RectangleBatch.of(rectangles);
+    }
+
+    // Memory per rectangle ---------------------------
+
+    @Benchmark
+    public List<Rectangle> buildObjects() {
+        var app = new App();
+        var l = new ArrayList<Rectangle>(size);
+        for (int i = 0; i < size; ++i) {
+            l.add(app.new Rectangle(widths[i], heights[i]));
+        }
+        return l;
+    }
+
+    @Benchmark
+    public RectangleBatch buildBatch() {
+        return new RectangleBatch(size).addAll(widths, heights);
+    }
+}
@@ -0,0 +1,74 @@
+package com.lambda.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.BloomFilter;
+import com.lambda.LongHashSet;
+import com.lambda.Solution;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * Counting the distinct values of a list: the exact Solution.duplicates and
+ * LongHashSet against a HyperLogLog, plus building a BloomFilter. Run with
+ * -prof gc to compare the allocation of each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class SketchBenchmark {
+    @Param({ "1000", "100000", "10000000" })
+    int size;
+
+    @Param({ "RANDOM", "DUPLICATES" })
+    Distribution distribution;
+
+    @Param({ "0.01" })
+    double error;
+
+    List<Long> boxedLongs;
+
+    @Setup
+    public void setup() {
+        boxedLongs = Inputs.boxed(Inputs.longs(size, distribution));
+    }
+
+    @Benchmark
+    public int countHashSet() {
+        return Solution.duplicates(boxedLongs).size();
+    }
+
+    @Benchmark
+    public int countLongHashSet() {
+        var set = new LongHashSet();
+        for (long x : boxedLongs) {
+            set.add(x);
+        }
+        return set.size();
+    }
+
+    @Benchmark
+    public long countHyperLogLog() {
+        return Solution.duplicatesCount(boxedLongs, error);
+    }
+
+    @Benchmark
+    public BloomFilter bloomFilter() {
+        return Solution.duplicatesFilter(boxedLongs, error);
+    }
+}
@@ -0,0 +1,109 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Execution;
+import com.lambda.SuperSum;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * SuperSum against one stream per inner list, over the number of worker
+ * threads (0 means Execution.SEQUENTIAL). UNIFORM has inner lists of 100
+ * elements; SKEWED puts half of the elements in 4 huge lists and spreads the
+ * rest over lists of 0 to 3 elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class SuperSumBenchmark {
+    public enum Shape {
+        UNIFORM, SKEWED
+    }
+
+    @Param({ "100000", "10000000" })
+    int size;
+
+    @Param({ "UNIFORM", "SKEWED" })
+    Shape shape;
+
+    @Param({ "0", "1", "2", "4", "8", "16" })
+    int parallelism;
+
+    ForkJoinPool pool;
+    Execution exec;
+    List<List<Integer>> nested;
+
+    @Setup
+    public void setup() {
+        if (parallelism == 0) {
+            exec = Execution.SEQUENTIAL;
+        } else {
+            pool = new ForkJoinPool(parallelism);
+            exec = Execution.pool(pool);
+        }
+
+        var arr = Inputs.ints(size, Distribution.RANDOM);
+        if (shape == Shape.UNIFORM) {
+            nested = Inputs.nested(arr, 100);
+            return;
+        }
+
+        var rnd = new Random(Inputs.SEED);
+        nested = new ArrayList<List<Integer>>();
+        int half = size / 2;
+        for (int i = 0; i < 4; ++i) {
+            nested.add(Inputs.boxed(Arrays.copyOfRange(arr, i * half / 4, (i + 1) * half / 4)));
+        }
+        for (int i = half; i < size;) {
+            int n = Math.min(size - i, rnd.nextInt(4));
+            nested.add(Inputs.boxed(Arrays.copyOfRange(arr, i, i + n)));
+            i += n;
+        }
+        Collections.shuffle(nested, rnd);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long engine() {
+        return new SuperSum(nested).sum(exec);
+    }
+
+    // How Solution.superSum used to run: the outer list split by the stream, one
+    // sequential stream per inner list.
+    @Benchmark
+    public int nestedStreams() {
+        if (pool == null) {
+            return nested.stream().mapToInt(x -> x.stream().mapToInt(y -> y).sum()).sum();
+        }
+        return pool.submit(() -> nested.parallelStream().mapToInt(x -> x.stream().mapToInt(y -> y).sum()).sum())
+                .join();
+    }
+}
@@ -0,0 +1,88 @@
+package com.lambda.benchmark;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.DateFormatter;
+import com.lambda.Solution;
+import com.lambda.TimeCache;
+
+/**
+ * Formatting a date with String.format (the old Solution.time()), with
+ * Solution.time() (DateFormatter), into a reused buffer, and with TimeCache. "distinct" is the
+ * number of different dates cycled through, so it decides the hit rate of the
+ * default sized cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeBenchmark {
+    @Param({ "100", "4096", "100000" })
+    int distinct;
+
+    LocalDate[] dates;
+    TimeCache cache;
+    char[] buf = new char[DateFormatter.MAX_LENGTH];
+    StringBuilder sb = new StringBuilder();
+    int next;
+
+    @Setup
+    public void setup() {
+        var rnd = new Random(Inputs.SEED);
+        dates = new LocalDate[distinct];
+        for (int i = 0; i < distinct; ++i) {
+            dates[i] = LocalDate.ofEpochDay(rnd.nextInt(100000));
+        }
+
+        cache = new TimeCache();
+    }
+
+    LocalDate nextDate() {
+        var d = dates[next];
+        next = next + 1 == dates.length ? 0 : next + 1;
+        return d;
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        var d = nextDate();
+        return String.format("%d-%d-%d", d.getYear(), d.getMonthValue(), d.getDayOfMonth());
+    }
+
+    @Benchmark
+    public String uncached() {
+        return Solution.time().apply(nextDate());
+    }
+
+    @Benchmark
+    public int charBuffer() {
+        return DateFormatter.format(nextDate(), buf, 0);
+    }
+
+    @Benchmark
+    public int stringBuilder() {
+        sb.setLength(0);
+        return DateFormatter.append(sb, nextDate()).length();
+    }
+
+    @Benchmark
+    public String cached() {
+        return cache.apply(nextDate());
+    }
+}
@@ -0,0 +1,68 @@
+package com.lambda.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambda.Solution;
+import com.lambda.TopK;
+import com.lambda.benchmark.Inputs.Distribution;
+
+/**
+ * The largest K doubles by sorting everything with Solution.bubbleSort and
+ * truncating, against the TopK heap, collector and quickselect.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class TopKBenchmark {
+    @Param({ "100000", "10000000" })
+    int size;
+
+    @Param({ "10", "1000" })
+    int k;
+
+    double[] doubles;
+    List<Double> boxed;
+
+    @Setup
+    public void setup() {
+        doubles = Inputs.doubles(size, Distribution.RANDOM);
+        boxed = Inputs.boxed(doubles);
+    }
+
+    @Benchmark
+    public List<Double> sortAndTruncate() {
+        return Solution.bubbleSort(new ArrayList<Double>(boxed), Double::compare).subList(0, k);
+    }
+
+    @Benchmark
+    public List<Double> heap() {
+        return TopK.top(boxed, k, Double::compare);
+    }
+
+    @Benchmark
+    public List<Double> parallelCollector() {
+        return boxed.parallelStream().collect(TopK.top(k, Double::compare));
+    }
+
+    @Benchmark
+    public double[] quickselect() {
+        return TopK.top(doubles, k);
+    }
+}
@@ -0,0 +1,163 @@
+package com.lambda;
+
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+import java.util.stream.Collector;
+
+import com.lambda.App.Rectangle;
+
+/**
+ * Online versions of Solution.sum, max, multiply and averageArea for lists that
+ * only grow by appends. Each accumulator takes values one at a time, merges
+ * with another accumulator (for parallel or distributed partial results) and
+ * returns the current result in O(1), equal to what the Solution method would
+ * return for all values added so far.
+ * 
+ * Every accumulator is also available as a Collector, for example
+ * list.stream().collect(Accumulators.summing()). They are not thread safe.
+ */
+public class Accumulators {
+    public static class Sum {
+        long sum; // Exact for up to 2^32 ints
+
+        public Sum add(int x) {
+            sum += x;
+            return this;
+        }
+
+        public Sum merge(Sum other) {
+            sum += other.sum;
+            return this;
+        }
+
+        // Wraps around like Solution.sum: the int sum is the low 32 bits of the exact one.
+        public int get() {
+            return (int) sum;
+        }
+
+        public long getWide() {
+            return sum;
+        }
+    }
+
+    public static class Max {
+        short max = Short.MIN_VALUE;
+        boolean empty = true;
+
+        public Max add(short x) {
+            max = x > max ? x : max;
+            empty = false;
+            return this;
+        }
+
+        public Max merge(Max other) {
+            if (!other.empty) {
+                add(other.max);
+            }
+            return this;
+        }
+
+        public short get() {
+            if (empty) {
+                throw new IllegalArgumentException(); // Same as Solution.max
+            }
+            return max;
+        }
+    }
+
+    public static class Product {
+        long product = 1;
+        boolean empty = true;
+
+        public Product add(long x) {
+            product *= x;
+            empty = false;
+            return this;
+        }
+
+        public Product merge(Product other) {
+            product *= other.product;
+            empty &= other.empty;
+            return this;
+        }
+
+        public long get() {
+            if (empty) {
+                throw new NoSuchElementException(); // Same as Solution.multiply
+            }
+            return product;
+        }
+    }
+
+    public static class AverageArea {
+        long sum;
+        BigInteger overflow = BigInteger.ZERO; // Whatever did not fit "sum"
+        long count;
+
+        public AverageArea add(Rectangle r) {
+            return add(r.getWidth(), r.getHeight());
+        }
+
+        public AverageArea add(int w, int h) {
+            long area = (long) w * h;
+            long next = sum + area;
+
+            if (((sum ^ next) & (area ^ next)) < 0) {
+                overflow = overflow.add(BigInteger.valueOf(sum));
+                next = area;
+            }
+
+            sum = next;
+            ++count;
+            return this;
+        }
+
+        public AverageArea merge(AverageArea other) {
+            overflow = overflow.add(other.overflow).add(BigInteger.valueOf(other.sum));
+            count += other.count;
+            return this;
+        }
+
+        public BigInteger area() {
+            return overflow.add(BigInteger.valueOf(sum));
+        }
+
+        public long count() {
+            return count;
+        }
+
+        // Same as Solution.averageArea, whose int sum is the low 32 bits of the exact one.
+        // Throws ArithmeticException when empty.
+        public int get() {
+            int s = overflow.signum() == 0 ? (int) sum : area().intValue();
+            return s / (int) count;
+        }
+
+        // Solution.averageAreaWide and RectangleBatch.averageAreaWide are built on
+        // this, so the overflow handling in add lives only here.
+        public long getWide() {
+            if (overflow.signum() == 0) {
+                return sum / count;
+            }
+            return area().divide(BigInteger.valueOf(count)).longValueExact();
+        }
+    }
+
+    public static Collector<Integer, Sum, Integer> summing() {
+        return Collector.of(Sum::new, Sum::add, Sum::merge, Sum::get, Collector.Characteristics.UNORDERED);
+    }
+
+    public static Collector<Short, Max, Short> maximum() {
+        return Collector.of(Max::new, Max::add, Max::merge, Max::get, Collector.Characteristics.UNORDERED);
+    }
+
+    public static Collector<Long, Product, Long> multiplying() {
+        return Collector.of(Product::new, Product::add, Product::merge, Product::get,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static Collector<Rectangle, AverageArea, Integer> averagingArea() {
+        return Collector.of(AverageArea::new, AverageArea::add, AverageArea::merge, AverageArea::get,
+                Collector.Characteristics.UNORDERED);
+    }
+}
@@ -0,0 +1,137 @@
+package com.lambda;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Approximate membership of the set Solution.duplicates would build: after
+ * adding every value, mightContain(x) is always true for an added x and true
+ * with probability about "fpp" for any other. Sized for "expected" distinct
+ * values it takes -expected * ln(fpp) / ln(2)^2 bits, e.g. 1.2 bytes per value
+ * at 1% instead of a boxed Long in a HashSet.
+ * 
+ * Filters built with the same parameters merge into the filter of the combined
+ * input. Not thread safe, except for addConcurrent.
+ */
+public class BloomFilter {
+    static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    final long[] words;
+    final long bits;
+    final int hashes;
+
+    public BloomFilter(long expected, double fpp) {
+        if (expected < 1) {
+            throw new IllegalArgumentException("expected < 1: " + expected);
+        }
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("fpp not in (0, 1): " + fpp);
+        }
+
+        double ln2 = Math.log(2);
+        long m = Math.max(64, (long) Math.ceil(-expected * Math.log(fpp) / (ln2 * ln2)));
+        if (m / 64 + 1 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many bits: " + m);
+        }
+
+        this.words = new long[(int) ((m + 63) / 64)];
+        this.bits = 64l * words.length;
+        this.hashes = (int) Math.max(1, Math.min(30, Math.round((double) m / expected * ln2)));
+    }
+
+    // Double hashing: the i-th bit is h1 + i * h2, both from one 64 bit hash pair.
+    static long second(long h1) {
+        return Hashing.mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    // Returns true if the value was not in the filter yet, i.e. at least one of
+    // its bits was still clear. False positives make this miss some new values.
+    public boolean add(long x) {
+        long h1 = Hashing.mix(x);
+        long h2 = second(h1);
+        boolean added = false;
+
+        for (int i = 0; i < hashes; ++i, h1 += h2) {
+            long b = (h1 >>> 1) % bits;
+            long bit = 1l << b;
+            int w = (int) (b >>> 6);
+
+            if ((words[w] & bit) == 0) {
+                words[w] |= bit;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    // Like add but safe to call from many threads at once on one filter, for
+    // filling a single filter in parallel. Sets each bit with an atomic OR unless
+    // it is already set.
+    public void addConcurrent(long x) {
+        long h1 = Hashing.mix(x);
+        long h2 = second(h1);
+
+        for (int i = 0; i < hashes; ++i, h1 += h2) {
+            long b = (h1 >>> 1) % bits;
+            long bit = 1l << b;
+            int w = (int) (b >>> 6);
+
+            if (((long) WORDS.getOpaque(words, w) & bit) == 0) {
+                WORDS.getAndBitwiseOr(words, w, bit);
+            }
+        }
+    }
+
+    public boolean mightContain(long x) {
+        long h1 = Hashing.mix(x);
+        long h2 = second(h1);
+
+        for (int i = 0; i < hashes; ++i, h1 += h2) {
+            long b = (h1 >>> 1) % bits;
+            if ((words[(int) (b >>> 6)] & 1l << b) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public BloomFilter merge(BloomFilter other) {
+        if (other.bits != bits || other.hashes != hashes) {
+            throw new IllegalArgumentException("Filters differ in size or hash count");
+        }
+
+        for (int i = 0; i < words.length; ++i) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    // False positive probability for the values added so far.
+    public double fpp() {
+        long set = 0;
+        for (var w : words) {
+            set += Long.bitCount(w);
+        }
+        return Math.pow((double) set / bits, hashes);
+    }
+
+    public int hashes() {
+        return hashes;
+    }
+
+    // Bytes held by the bit array.
+    public long memoryUsage() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    // A parallel stream builds one full size filter per split and merges them, so
+    // for huge parallel inputs fill one filter with addConcurrent instead (as
+    // Solution.duplicatesFilter does).
+    public static Collector<Long, BloomFilter, BloomFilter> collector(long expected, double fpp) {
+        Supplier<BloomFilter> supplier = () -> new BloomFilter(expected, fpp);
+        return Collector.of(supplier, BloomFilter::add, BloomFilter::merge, Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+}
@@ -0,0 +1,221 @@
+package com.lambda;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe versions of the Accumulators, for many threads adding values that
+ * would otherwise be collected into a synchronized list and aggregated at the
+ * end. Sum, Max and Min are striped over LongAdder and LongAccumulator cells,
+ * Product over its own padded cells, so threads mostly update different cache
+ * lines and never lock. Distinct has to keep every value and locks one of many
+ * stripes per add.
+ * 
+ * get() combines the cells and returns what the Solution method would return
+ * for the values added so far. Like LongAdder.sum() it is not an atomic
+ * snapshot: values added while get() runs may or may not be included.
+ */
+public class ConcurrentAccumulators {
+    public static class Sum {
+        final LongAdder sum = new LongAdder(); // Exact for up to 2^32 ints
+
+        public void add(int x) {
+            sum.add(x);
+        }
+
+        // Wraps around like Solution.sum.
+        public int get() {
+            return (int) sum.sum();
+        }
+
+        public long getWide() {
+            return sum.sum();
+        }
+
+        public void reset() {
+            sum.reset();
+        }
+    }
+
+    // Long.MIN_VALUE / MAX_VALUE are outside the short range, so they mark "empty".
+
+    public static class Max {
+        final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        public void add(short x) {
+            max.accumulate(x);
+        }
+
+        public short get() {
+            long m = max.get();
+            if (m == Long.MIN_VALUE) {
+                throw new IllegalArgumentException(); // Same as Solution.max
+            }
+            return (short) m;
+        }
+
+        public void reset() {
+            max.reset();
+        }
+    }
+
+    public static class Min {
+        final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+        public void add(short x) {
+            min.accumulate(x);
+        }
+
+        public short get() {
+            long m = min.get();
+            if (m == Long.MAX_VALUE) {
+                throw new IllegalArgumentException();
+            }
+            return (short) m;
+        }
+
+        public void reset() {
+            min.reset();
+        }
+    }
+
+    public static class Product {
+        // One product per cell, padded so that two cells never share a cache line.
+        static class Cell extends AtomicLong {
+            private static final long serialVersionUID = 1L;
+
+            long p1, p2, p3, p4, p5, p6, p7;
+            volatile boolean overflow;
+
+            Cell() {
+                super(1);
+            }
+        }
+
+        final Cell[] cells;
+        final LongAdder count = new LongAdder();
+        volatile boolean zero;
+
+        public Product() {
+            int n = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+            cells = new Cell[n];
+            for (int i = 0; i < n; ++i) {
+                cells[i] = new Cell();
+            }
+        }
+
+        public void add(long x) {
+            if (x == 0) {
+                zero = true;
+            }
+
+            // Start at the cell of this thread, move on to the next one on contention.
+            int i = (int) (Thread.currentThread().getId() * 0x9E3779B9L >>> 16);
+            for (;; ++i) {
+                var c = cells[i & (cells.length - 1)];
+                long p = c.get();
+                long lo = p * x;
+                if (c.compareAndSet(p, lo)) {
+                    if (!fits(Math.multiplyHigh(p, x), lo)) {
+                        c.overflow = true;
+                    }
+                    break;
+                }
+            }
+            count.increment();
+        }
+
+        static boolean fits(long hi, long lo) {
+            return (hi == 0 && lo >= 0) || (hi == -1 && lo < 0);
+        }
+
+        // Wraps around like Solution.multiply.
+        public long get() {
+            if (count.sum() == 0) {
+                throw new NoSuchElementException(); // Same as Solution.multiply
+            }
+
+            long p = 1;
+            for (var c : cells) {
+                p *= c.get();
+            }
+            return p;
+        }
+
+        // Whether the exact product of the values so far does not fit a long, that is
+        // whether get() differs from Solution.multiplyExact.
+        public boolean overflowed() {
+            if (zero) {
+                return false; // The exact product is 0
+            }
+
+            long p = 1;
+            boolean overflow = false;
+            for (var c : cells) {
+                long x = c.get();
+                overflow |= c.overflow || !fits(Math.multiplyHigh(p, x), p * x);
+                p *= x;
+            }
+            return overflow;
+        }
+
+        public void reset() {
+            for (var c : cells) {
+                c.overflow = false;
+                c.set(1);
+            }
+            count.reset();
+            zero = false;
+        }
+    }
+
+    // Number of distinct values, which is Solution.duplicates2(list).size(). The
+    // values are kept exactly, unboxed, in one IntHashSet per stripe. A value always
+    // goes to the same stripe, so the stripes never overlap. Adding locks only that
+    // stripe; with many more stripes than threads two threads rarely wait for each
+    // other.
+    public static class Distinct {
+        final IntHashSet[] stripes;
+
+        public Distinct() {
+            int n = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+            stripes = new IntHashSet[n];
+            for (int i = 0; i < n; ++i) {
+                stripes[i] = new IntHashSet();
+            }
+        }
+
+        // Independent of the Fibonacci hashing that IntHashSet uses for its slots, so
+        // the values of one stripe still spread over its whole table.
+        IntHashSet stripe(int x) {
+            return stripes[(int) Hashing.mix(x) & (stripes.length - 1)];
+        }
+
+        public void add(int x) {
+            var s = stripe(x);
+            synchronized (s) {
+                s.add(x);
+            }
+        }
+
+        public int get() {
+            int n = 0;
+            for (var s : stripes) {
+                synchronized (s) {
+                    n += s.size();
+                }
+            }
+            return n;
+        }
+
+        public void reset() {
+            for (var s : stripes) {
+                synchronized (s) {
+                    s.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.lambda;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sorts lists of small domain types (Byte, Short, Character) with a counting
+ * sort when the comparator orders them naturally or in reverse, and with
+ * List.sort(comp) otherwise. Used by Solution.sort.
+ * 
+ * There is no way to tell what a lambda like Byte::compare does, so the
+ * comparator is probed on every pair of neighbouring values of the domain. A
+ * Comparator has to be transitive, so if all neighbours compare in increasing
+ * (or all in decreasing) order it is the natural (or reversed) order. The
+ * probe costs one compare per domain value, so it only runs for lists of at
+ * least a few times the domain size.
+ * 
+ * The counting sort writes back valueOf instances, so equal elements may come
+ * back as different (cached) objects.
+ */
+public class CountingSort {
+    // Lists smaller than MIN_FACTOR * domain size go straight to List.sort.
+    static final int MIN_FACTOR = 4;
+
+    public static List<Byte> sortBytes(List<Byte> list, Comparator<? super Byte> comp) {
+        return sort(list, comp, x -> x, x -> (byte) x, Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    public static List<Short> sortShorts(List<Short> list, Comparator<? super Short> comp) {
+        return sort(list, comp, x -> x, x -> (short) x, Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    public static List<Character> sortChars(List<Character> list, Comparator<? super Character> comp) {
+        return sort(list, comp, x -> x, x -> (char) x, Character.MIN_VALUE, Character.MAX_VALUE);
+    }
+
+    // Sorts "list" in place by "comp" for values in [min, max] and returns it.
+    static <T> List<T> sort(List<T> list, Comparator<? super T> comp, ToIntFunction<T> key, IntFunction<T> value,
+            int min, int max) {
+        int domain = max - min + 1;
+        if (list.size() < MIN_FACTOR * domain) {
+            list.sort(comp);
+            return list;
+        }
+
+        int order = order(comp, value, min, max);
+        if (order == 0) {
+            list.sort(comp);
+            return list;
+        }
+
+        // The probe only covers the domain values, so nulls (which a comparator like
+        // nullsFirst accepts) are left to List.sort.
+        var counts = new int[domain];
+        for (var x : list) {
+            if (x == null) {
+                list.sort(comp);
+                return list;
+            }
+            ++counts[key.applyAsInt(x) - min];
+        }
+
+        var it = list.listIterator();
+        for (int i = 0; i < domain; ++i) {
+            int k = order > 0 ? i : domain - 1 - i;
+            if (counts[k] == 0) {
+                continue;
+            }
+
+            var x = value.apply(k + min);
+            for (int c = counts[k]; c > 0; --c) {
+                it.next();
+                it.set(x);
+            }
+        }
+        return list;
+    }
+
+    // 1 if "comp" is the natural order on [min, max], -1 if it is the reversed one
+    // and 0 otherwise.
+    static <T> int order(Comparator<? super T> comp, IntFunction<T> value, int min, int max) {
+        if (comp == Comparator.naturalOrder()) {
+            return 1;
+        }
+        if (comp == Comparator.reverseOrder()) {
+            return -1;
+        }
+
+        int sign = Integer.signum(comp.compare(value.apply(min), value.apply(min + 1)));
+        if (sign == 0) {
+            return 0;
+        }
+
+        var prev = value.apply(min + 1);
+        for (int x = min + 2; x <= max; ++x) {
+            var next = value.apply(x);
+            if (Integer.signum(comp.compare(prev, next)) != sign) {
+                return 0;
+            }
+            prev = next;
+        }
+
+        return -sign; // compare(a, b) < 0 for a < b means increasing order
+    }
+}
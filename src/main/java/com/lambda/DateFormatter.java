@@ -0,0 +1,122 @@
+package com.lambda;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * Formats dates as "<Year>-<Month>-<Day>" without zero padding, the same output
+ * as String.format("%d-%d-%d", ...) used by Solution.time() before, but
+ * without parsing a format string or boxing. The digits are written straight
+ * into a caller supplied StringBuilder, char[] or ByteBuffer, which allocates
+ * nothing. format() returning a String also allocates a char[MAX_LENGTH]
+ * scratch buffer per call (one per batch for format(LocalDate[])).
+ *
+ * Named so as not to shadow java.text.DateFormat.
+ */
+public class DateFormatter {
+    // "-999999999-12-31", the longest output for LocalDate.MIN.
+    public static final int MAX_LENGTH = 16;
+
+    public static String format(LocalDate d) {
+        var buf = new char[MAX_LENGTH];
+        return new String(buf, 0, format(d, buf, 0));
+    }
+
+    public static StringBuilder append(StringBuilder sb, LocalDate d) {
+        // StringBuilder.append(int) writes the digits directly.
+        return sb.append(d.getYear()).append('-').append(d.getMonthValue()).append('-').append(d.getDayOfMonth());
+    }
+
+    // Writes "d" into buf[off, ...) and returns the offset after it.
+    public static int format(LocalDate d, char[] buf, int off) {
+        off = digits(d.getYear(), buf, off);
+        buf[off++] = '-';
+        off = digits(d.getMonthValue(), buf, off);
+        buf[off++] = '-';
+        return digits(d.getDayOfMonth(), buf, off);
+    }
+
+    // Writes "d" as ASCII at the position of "buf" and advances it.
+    public static void format(LocalDate d, ByteBuffer buf) {
+        digits(d.getYear(), buf);
+        buf.put((byte) '-');
+        digits(d.getMonthValue(), buf);
+        buf.put((byte) '-');
+        digits(d.getDayOfMonth(), buf);
+    }
+
+    // Batch versions, each date followed by "separator".
+
+    public static StringBuilder append(StringBuilder sb, LocalDate[] dates, char separator) {
+        for (var d : dates) {
+            append(sb, d).append(separator);
+        }
+        return sb;
+    }
+
+    public static int format(LocalDate[] dates, char[] buf, int off, char separator) {
+        for (var d : dates) {
+            off = format(d, buf, off);
+            buf[off++] = separator;
+        }
+        return off;
+    }
+
+    public static void format(LocalDate[] dates, ByteBuffer buf, char separator) {
+        for (var d : dates) {
+            format(d, buf);
+            buf.put((byte) separator);
+        }
+    }
+
+    public static String[] format(LocalDate[] dates) {
+        var out = new String[dates.length];
+        var buf = new char[MAX_LENGTH];
+
+        for (int i = 0; i < dates.length; ++i) {
+            out[i] = new String(buf, 0, format(dates[i], buf, 0));
+        }
+        return out;
+    }
+
+    static int length(int x) {
+        // Years are within +-999,999,999, so at most 9 digits plus the sign.
+        int n = x < 0 ? 2 : 1;
+        for (int v = Math.abs(x); v >= 10; v /= 10) {
+            ++n;
+        }
+        return n;
+    }
+
+    static int digits(int x, char[] buf, int off) {
+        int end = off + length(x);
+        if (x < 0) {
+            buf[off] = '-';
+            x = -x; // No overflow, the year is never Integer.MIN_VALUE
+        }
+
+        int i = end;
+        do {
+            buf[--i] = (char) ('0' + x % 10);
+            x /= 10;
+        } while (x != 0);
+
+        return end;
+    }
+
+    static void digits(int x, ByteBuffer buf) {
+        int end = buf.position() + length(x);
+        if (x < 0) {
+            buf.put(buf.position(), (byte) '-');
+            x = -x;
+        }
+
+        int i = end;
+        do {
+            buf.put(--i, (byte) ('0' + x % 10));
+            x /= 10;
+        } while (x != 0);
+
+        buf.position(end);
+    }
+}
@@ -0,0 +1,149 @@
+package com.lambda;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+
+/**
+ * Bulk version of Solution.checkString for checking that strings only contain
+ * the digits '0' to '9'.
+ * 
+ * - CharPredicate tests a char without boxing it into a Character.
+ * - isDigits(byte[]) and isDigits(ByteBuffer) work on Latin-1/ASCII bytes and
+ * check 8 bytes at a time with SWAR arithmetic on a long.
+ * - The batch methods check a whole CharSequence[] or a newline delimited
+ * ByteBuffer and set bit i of the returned BitSet if string/line i is valid.
+ * 
+ * Like Solution.checkString, an empty string is valid.
+ */
+public class DigitValidator {
+    @FunctionalInterface
+    public interface CharPredicate {
+        boolean test(char c);
+    }
+
+    // c - '0' wraps around to a large char for anything below '0'.
+    public static final CharPredicate DIGIT = c -> (char) (c - '0') <= 9;
+
+    static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    static final long ZEROS = 0x3030303030303030L; // "00000000"
+    static final long SIXES = 0x0606060606060606L;
+
+    // Reads 8 bytes of a byte[] as one long.
+    static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    public static boolean check(CharSequence in, CharPredicate pred) {
+        for (int i = 0; i < in.length(); ++i) {
+            if (!pred.test(in.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isDigits(CharSequence in) {
+        // Strings do not expose their Latin-1 bytes, so this is the char loop
+        // with the branch free test of DIGIT.
+        for (int i = 0; i < in.length(); ++i) {
+            if ((char) (in.charAt(i) - '0') > 9) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // True if all 8 bytes of "x" are '0' to '9': the high nibbles must all be 3, and
+    // adding 6 to a low nibble carries into the high nibble exactly when it is above 9.
+    static boolean digits8(long x) {
+        return (x & HIGH_NIBBLES) == ZEROS && ((x + SIXES) & HIGH_NIBBLES) == ZEROS;
+    }
+
+    static boolean digit(byte b) {
+        return (b - '0' & 0xFF) <= 9;
+    }
+
+    public static boolean isDigits(byte[] in, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            if (!digits8((long) LONGS.get(in, i))) {
+                return false;
+            }
+        }
+
+        for (; i < to; ++i) {
+            if (!digit(in[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Checks buf[from, to) using absolute reads, "buf" itself is not changed.
+    public static boolean isDigits(ByteBuffer buf, int from, int to) {
+        // The check is the same in any byte order, native is just the fastest.
+        return digits(buf.duplicate().order(ByteOrder.nativeOrder()), from, to);
+    }
+
+    static boolean digits(ByteBuffer buf, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            if (!digits8(buf.getLong(i))) {
+                return false;
+            }
+        }
+
+        for (; i < to; ++i) {
+            if (!digit(buf.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static BitSet check(CharSequence[] in, CharPredicate pred) {
+        var out = new BitSet(in.length);
+        for (int i = 0; i < in.length; ++i) {
+            if (check(in[i], pred)) {
+                out.set(i);
+            }
+        }
+        return out;
+    }
+
+    public static BitSet isDigits(CharSequence[] in) {
+        var out = new BitSet(in.length);
+        for (int i = 0; i < in.length; ++i) {
+            if (isDigits(in[i])) {
+                out.set(i);
+            }
+        }
+        return out;
+    }
+
+    // Checks every '\n' terminated line in buf[position, limit). A last line without
+    // '\n' counts too, but a trailing '\n' does not start another line. "\r\n" line
+    // ends are not supported, the '\r' makes the line invalid.
+    public static BitSet isDigitsLines(ByteBuffer in) {
+        var buf = in.duplicate().order(ByteOrder.nativeOrder());
+        var out = new BitSet();
+        int line = 0;
+        int start = buf.position();
+
+        for (int i = start; i < buf.limit(); ++i) {
+            if (buf.get(i) == '\n') {
+                if (digits(buf, start, i)) {
+                    out.set(line);
+                }
+                ++line;
+                start = i + 1;
+            }
+        }
+
+        if (start < buf.limit() && digits(buf, start, buf.limit())) {
+            out.set(line);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,119 @@
+package com.lambda;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * How the stream pipelines of Solution are run: sequentially, in parallel on the
+ * common ForkJoinPool or in parallel on a caller supplied ForkJoinPool.
+ * 
+ * Inputs smaller than the threshold always run sequentially since splitting
+ * them costs more than it saves. Parallel runs use ordered streams, so list
+ * results (cast, duplicates2, ...) keep the encounter order of the source.
+ */
+public class Execution {
+    @FunctionalInterface
+    public interface RangeTask {
+        void run(int from, int to);
+    }
+
+    @FunctionalInterface
+    public interface RangeReducer {
+        long reduce(int from, int to);
+    }
+
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    public static final Execution SEQUENTIAL = new Execution(null, false, Long.MAX_VALUE);
+
+    final ForkJoinPool pool; // null means the common pool
+    final boolean parallel;
+    final long threshold;
+
+    Execution(ForkJoinPool pool, boolean parallel, long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold < 0");
+        }
+
+        this.pool = pool;
+        this.parallel = parallel;
+        this.threshold = threshold;
+    }
+
+    public static Execution commonPool() {
+        return commonPool(DEFAULT_THRESHOLD);
+    }
+
+    public static Execution commonPool(long threshold) {
+        return new Execution(null, true, threshold);
+    }
+
+    public static Execution pool(ForkJoinPool pool) {
+        return pool(pool, DEFAULT_THRESHOLD);
+    }
+
+    public static Execution pool(ForkJoinPool pool, long threshold) {
+        if (pool == null) {
+            throw new NullPointerException("pool");
+        }
+
+        return new Execution(pool, true, threshold);
+    }
+
+    public boolean isParallel(long size) {
+        return parallel && size >= threshold;
+    }
+
+    public <E, R> R run(Collection<E> source, Function<Stream<E>, R> pipeline) {
+        return run(source.size(), source, pipeline);
+    }
+
+    // Like above but decides on "size" instead of source.size(), for nested
+    // sources where the outer size says little about the work.
+    public <E, R> R run(long size, Collection<E> source, Function<Stream<E>, R> pipeline) {
+        if (!isParallel(size)) {
+            return pipeline.apply(source.stream());
+        }
+
+        return inPool(() -> pipeline.apply(source.parallelStream()));
+    }
+
+    // Runs "task" over [0, length), split into chunks when parallel. For loops over
+    // primitive arrays that have no stream of their own.
+    public void forRange(int length, RangeTask task) {
+        reduceRange(length, 0, (from, to) -> {
+            task.run(from, to);
+            return 0;
+        }, (x, y) -> 0);
+    }
+
+    public long reduceRange(int length, long identity, RangeReducer reducer, LongBinaryOperator combine) {
+        if (!isParallel(length)) {
+            return length == 0 ? identity : combine.applyAsLong(identity, reducer.reduce(0, length));
+        }
+
+        // A few chunks per worker so that stealing can even out slow ones.
+        var chunks = Math.min(length, 4 * (pool == null ? ForkJoinPool.getCommonPoolParallelism()
+                : pool.getParallelism()));
+
+        return inPool(() -> IntStream.range(0, chunks).parallel()
+                .mapToLong(c -> reducer.reduce((int) ((long) c * length / chunks),
+                        (int) ((long) (c + 1) * length / chunks)))
+                .reduce(identity, combine));
+    }
+
+    <R> R inPool(Supplier<R> parallelWork) {
+        if (pool == null) {
+            return parallelWork.get();
+        }
+
+        // A parallel stream forks its tasks into the pool of the thread running the
+        // terminal operation, so running it as a task of "pool" keeps it there.
+        return pool.submit(parallelWork::get).join();
+    }
+}
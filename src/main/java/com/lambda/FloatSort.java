@@ -0,0 +1,121 @@
+package com.lambda;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts floats with an LSD radix sort over their IEEE 754 bit patterns. Used by
+ * Solution.sort2 for the natural and reversed order.
+ * 
+ * The order is the one of Float.compare: -Infinity < ... < -0.0 < 0.0 < ... <
+ * Infinity < NaN. Every NaN is treated as the canonical Float.NaN, so NaN
+ * payloads are not preserved.
+ */
+public class FloatSort {
+    // Float::compare cannot be recognized by identity, so callers wanting the radix
+    // path pass one of these.
+    public static final Comparator<Float> NATURAL = Comparator.naturalOrder();
+    public static final Comparator<Float> REVERSED = Comparator.reverseOrder();
+
+    // Below this List.sort is faster than 4 radix passes.
+    static final int RADIX_THRESHOLD = 256;
+
+    // Sorts "list" in place from HIGHEST to LOWEST according to "comp".
+    public static List<Float> sortDescending(List<Float> list, Comparator<Float> comp) {
+        if (list.size() < RADIX_THRESHOLD || (comp != NATURAL && comp != REVERSED)) {
+            // Swapped arguments instead of -compare, which overflows on Integer.MIN_VALUE.
+            list.sort((x, y) -> comp.compare(y, x));
+            return list;
+        }
+
+        var arr = new float[list.size()];
+        int i = 0;
+        for (var x : list) {
+            arr[i++] = x;
+        }
+
+        sort(arr);
+
+        boolean descending = comp == NATURAL;
+        var it = list.listIterator();
+        for (int j = 0; j < arr.length; ++j) {
+            it.next();
+            it.set(descending ? arr[arr.length - 1 - j] : arr[j]);
+        }
+        return list;
+    }
+
+    // Maps a float to an int whose unsigned order is the order of Float.compare.
+    static int key(float f) {
+        int bits = Float.floatToIntBits(f); // Canonical NaN, above Infinity
+        // Negative floats: flip all bits so larger magnitudes come first.
+        // Positive floats: flip only the sign bit so they come after the negatives.
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+    static float value(int key) {
+        int bits = key ^ ((~key >> 31) | Integer.MIN_VALUE);
+        return Float.intBitsToFloat(bits);
+    }
+
+    // Sorts "arr" ascending in place.
+    public static void sort(float[] arr) {
+        var keys = new int[arr.length];
+        for (int i = 0; i < arr.length; ++i) {
+            keys[i] = key(arr[i]);
+        }
+
+        radix(keys);
+
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = value(keys[i]);
+        }
+    }
+
+    public static void sortDescending(float[] arr) {
+        sort(arr);
+        for (int i = 0, j = arr.length - 1; i < j; ++i, --j) {
+            var tmp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = tmp;
+        }
+    }
+
+    // Unsigned LSD radix sort, one byte per pass.
+    static void radix(int[] keys) {
+        if (keys.length < 2) {
+            return;
+        }
+
+        var tmp = new int[keys.length];
+        var src = keys;
+        var dst = tmp;
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            var counts = new int[257];
+            for (var k : src) {
+                ++counts[((k >>> shift) & 0xFF) + 1];
+            }
+
+            // A pass where every key has the same byte changes nothing.
+            if (counts[((src[0] >>> shift) & 0xFF) + 1] == src.length) {
+                continue;
+            }
+
+            for (int i = 1; i < counts.length; ++i) {
+                counts[i] += counts[i - 1];
+            }
+            for (var k : src) {
+                dst[counts[(k >>> shift) & 0xFF]++] = k;
+            }
+
+            var swap = src;
+            src = dst;
+            dst = swap;
+        }
+
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, 0, keys.length);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.lambda;
+
+/**
+ * Hash functions shared by the hash based classes of this package.
+ */
+final class Hashing {
+    private Hashing() {
+    }
+
+    // The finalizer of MurmurHash3, spreads every input bit over the whole hash.
+    static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+}
@@ -0,0 +1,117 @@
+package com.lambda;
+
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Approximate number of distinct longs in constant memory, for callers that
+ * only need Solution.duplicates(list).size(). 2^precision one byte registers
+ * keep the longest run of leading zeros seen among the hashes falling into
+ * them; the relative standard error is 1.04 / sqrt(2^precision), e.g. 0.8% for
+ * 16 KB at precision 14, however many values are added.
+ * 
+ * Sketches of the same precision merge into the sketch of the combined input,
+ * so partitions can be counted separately (or in parallel, see collector()).
+ * Not thread safe.
+ */
+public class HyperLogLog {
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    final byte[] registers;
+    final int precision;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision not in [4, 18]: " + precision);
+        }
+
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    // Smallest sketch whose relative standard error is at most "error". Throws an
+    // IllegalArgumentException below about 0.0025, which needs more than
+    // MAX_PRECISION.
+    public static HyperLogLog withError(double error) {
+        return new HyperLogLog(precisionFor(error));
+    }
+
+    static int precisionFor(double error) {
+        if (!(error > 0 && error < 1)) {
+            throw new IllegalArgumentException("error not in (0, 1): " + error);
+        }
+
+        double m = Math.pow(1.04 / error, 2);
+        int p = 64 - Long.numberOfLeadingZeros((long) Math.ceil(m) - 1);
+        if (p > MAX_PRECISION) {
+            throw new IllegalArgumentException("error below what precision 18 gives: " + error);
+        }
+        return Math.max(MIN_PRECISION, p);
+    }
+
+    public HyperLogLog add(long x) {
+        long h = Hashing.mix(x);
+        int i = (int) (h >>> (64 - precision));
+        // The marker bit caps the rank at 64 - precision + 1.
+        int rank = Long.numberOfLeadingZeros(h << precision | 1l << (precision - 1)) + 1;
+
+        if (rank > registers[i]) {
+            registers[i] = (byte) rank;
+        }
+        return this;
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision " + other.precision + " != " + precision);
+        }
+
+        for (int i = 0; i < registers.length; ++i) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+        return this;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+
+        for (var r : registers) {
+            sum += Double.longBitsToDouble((1023l - r) << 52); // 2^-r
+            if (r == 0) {
+                ++zeros;
+            }
+        }
+
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double raw = alpha * m * m / sum;
+
+        // Linear counting is more accurate while many registers are still empty. A
+        // 64 bit hash needs no correction at the large end.
+        if (raw <= 2.5 * m && zeros > 0) {
+            return Math.round(m * Math.log((double) m / zeros));
+        }
+        return Math.round(raw);
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    public double relativeError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    // Bytes held by the registers.
+    public long memoryUsage() {
+        return registers.length;
+    }
+
+    public static Collector<Long, HyperLogLog, HyperLogLog> collector(int precision) {
+        Supplier<HyperLogLog> supplier = () -> new HyperLogLog(precision);
+        return Collector.of(supplier, HyperLogLog::add, HyperLogLog::merge, Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+}
@@ -0,0 +1,305 @@
+package com.lambda;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.lambda.ShortFilter.ShortConsumer;
+import com.lambda.ShortFilter.ShortPredicate;
+import com.lambda.ShortFilter.ShortSupplier;
+
+/**
+ * Runs many Solution.filter style generators at once, each on its own thread,
+ * for generators that block (socket or pipe reads) and would otherwise park the
+ * calling thread. Every started Source pulls from its generator until it
+ * returns 0, its Stop condition holds or it is cancelled, and hands the
+ * matching values to a bounded ring buffer that a consumer reads with poll(),
+ * take() or forEach().
+ * 
+ * The threads are virtual when the JDK has them (Java 21+, looked up
+ * reflectively), else daemon platform threads with a small stack. A full ring
+ * parks the generator's thread until the consumer catches up, so a slow
+ * consumer slows its source down instead of growing the heap.
+ * 
+ * Each ring is single producer, single consumer: read a Source from one thread
+ * at a time.
+ */
+public class Ingestion implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    @FunctionalInterface
+    public interface Stop {
+        // Checked after each value pulled from the generator, "kept" counts the values
+        // that matched so far including "last".
+        boolean test(short last, long kept);
+
+        Stop NEVER = (last, kept) -> false;
+
+        static Stop limit(long values) {
+            return (last, kept) -> kept >= values;
+        }
+
+        static Stop deadline(long nanoTime) {
+            return (last, kept) -> System.nanoTime() - nanoTime >= 0;
+        }
+
+        // The sentinel itself is still handed on if it matches.
+        static Stop at(short sentinel) {
+            return (last, kept) -> last == sentinel;
+        }
+    }
+
+    final ExecutorService executor;
+    final Set<Source> sources = ConcurrentHashMap.newKeySet();
+
+    public Ingestion() {
+        this(threads());
+    }
+
+    // Sources run as tasks of "executor", which should not bound its number of
+    // threads below the number of sources that block at once.
+    public Ingestion(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor, null before Java 21.
+    static final Method VIRTUAL_THREADS = virtualThreads();
+
+    static Method virtualThreads() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public static boolean hasVirtualThreads() {
+        return VIRTUAL_THREADS != null;
+    }
+
+    static ExecutorService threads() {
+        if (VIRTUAL_THREADS != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREADS.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return Executors.newCachedThreadPool(r -> {
+            var t = new Thread(null, r, "ingestion", 256 * 1024);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public Source start(ShortSupplier gen) {
+        return start(gen, ShortFilter.ODD, Stop.NEVER, DEFAULT_CAPACITY);
+    }
+
+    public Source start(ShortSupplier gen, ShortPredicate pred, Stop stop, int capacity) {
+        var source = new Source(gen, pred, stop, capacity);
+        sources.add(source);
+        source.future = executor.submit(source::run);
+        return source;
+    }
+
+    public int running() {
+        return sources.size();
+    }
+
+    // Cancels the running sources and stops the threads.
+    @Override
+    public void close() {
+        for (var s : sources) {
+            s.cancel();
+        }
+        executor.shutdownNow();
+    }
+
+    public class Source {
+        final ShortSupplier gen;
+        final ShortPredicate pred;
+        final Stop stop;
+
+        // Ring buffer: the producer writes at tail, the consumer reads at head. Each
+        // side publishes its index with a volatile store and then unparks the other
+        // side, which announced itself before its last check, so no wakeup is lost.
+        final short[] ring;
+        final int mask;
+        final AtomicLong head = new AtomicLong();
+        final AtomicLong tail = new AtomicLong();
+
+        volatile Thread producer;
+        volatile Thread consumer;
+        volatile boolean done;
+        volatile boolean cancelled;
+        volatile Throwable failure;
+        volatile Future<?> future;
+        long kept;
+
+        Source(ShortSupplier gen, ShortPredicate pred, Stop stop, int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity <= 0");
+            }
+
+            this.gen = gen;
+            this.pred = pred;
+            this.stop = stop;
+            this.ring = new short[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1]; // Power of two
+            this.mask = ring.length - 1;
+        }
+
+        void run() {
+            producer = Thread.currentThread();
+            try {
+                while (!cancelled) {
+                    var x = gen.getAsShort();
+                    if (x == 0) {
+                        break;
+                    }
+                    if (pred.test(x)) {
+                        if (!put(x)) {
+                            break;
+                        }
+                        ++kept;
+                    }
+                    if (stop.test(x, kept)) {
+                        break;
+                    }
+                }
+            } catch (Throwable e) {
+                if (!cancelled) {
+                    failure = e;
+                }
+            } finally {
+                // Removed first, so that running() no longer counts a source seen as done.
+                sources.remove(this);
+                done = true;
+                LockSupport.unpark(consumer);
+            }
+        }
+
+        // Waits for a free slot, false if cancelled or interrupted meanwhile.
+        boolean put(short x) {
+            long t = tail.get();
+            for (int idle = 0; t - head.get() == ring.length; ++idle) {
+                if (cancelled || Thread.interrupted()) {
+                    return false;
+                }
+                backoff(idle);
+            }
+
+            ring[(int) t & mask] = x;
+            tail.set(t + 1);
+            LockSupport.unpark(consumer);
+            return true;
+        }
+
+        // Next value or 0 if none is buffered right now.
+        public short poll() {
+            long h = head.get();
+            if (h == tail.get()) {
+                return 0;
+            }
+
+            var x = ring[(int) h & mask];
+            head.set(h + 1);
+            LockSupport.unpark(producer);
+            return x;
+        }
+
+        // Waits for the next value, 0 once the source is done and drained. Throws a
+        // CompletionException if the generator failed, or wrapping an
+        // InterruptedException (with the interrupt status kept) if the calling thread
+        // is interrupted while waiting.
+        public short take() {
+            consumer = Thread.currentThread();
+            try {
+                for (int idle = 0;; ++idle) {
+                    var x = poll();
+                    if (x != 0) {
+                        return x;
+                    }
+
+                    if (done || cancelled) {
+                        // Values put before "done" was set are visible now.
+                        x = poll();
+                        if (x == 0 && failure != null) {
+                            throw new CompletionException(failure);
+                        }
+                        return x;
+                    }
+
+                    // park() returns at once while the interrupt status is set.
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new CompletionException(new InterruptedException());
+                    }
+                    backoff(idle);
+                }
+            } finally {
+                consumer = null;
+            }
+        }
+
+        // Hands every value to "sink" until the source is done, returns the count.
+        public long forEach(ShortConsumer sink) {
+            long count = 0;
+            for (var x = take(); x != 0; x = take()) {
+                sink.accept(x);
+                ++count;
+            }
+            return count;
+        }
+
+        // Values buffered and not read yet.
+        public int size() {
+            return (int) (tail.get() - head.get());
+        }
+
+        public int capacity() {
+            return ring.length;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public Throwable failure() {
+            return failure;
+        }
+
+        // Stops pulling from the generator. A generator blocked in a read is
+        // interrupted; values already buffered can still be polled.
+        public void cancel() {
+            cancelled = true;
+            sources.remove(this);
+            var f = future;
+            if (f != null) {
+                f.cancel(true);
+            }
+            LockSupport.unpark(producer);
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    // Spins briefly, then parks until the other side unparks. Parked threads use
+    // no CPU, which matters with thousands of sources on a few cores.
+    static void backoff(int idle) {
+        if (idle < 16) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.park();
+        }
+    }
+}
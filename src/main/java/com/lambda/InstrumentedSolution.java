@@ -0,0 +1,200 @@
+package com.lambda;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.lambda.App.Rectangle;
+
+/**
+ * Same methods as Solution, recording Metrics for each call when they are
+ * enabled. While disabled each method is one flag check and a direct call to
+ * Solution.
+ * 
+ * The recorded size is the input size, or the output size for filter whose
+ * input is unbounded.
+ */
+public class InstrumentedSolution {
+    public static Boolean checkString(String in, Predicate<Character> isDigit) {
+        if (!Metrics.enabled) {
+            return Solution.checkString(in, isDigit);
+        }
+        var call = Metrics.start("checkString");
+        try {
+            return Solution.checkString(in, isDigit);
+        } finally {
+            call.stop(in.length());
+        }
+    }
+
+    public static List<Byte> sort(List<Byte> list, Comparator<Byte> comp) {
+        if (!Metrics.enabled) {
+            return Solution.sort(list, comp);
+        }
+        var call = Metrics.start("sort");
+        try {
+            return Solution.sort(list, comp);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static List<Float> sort2(List<Float> list, Comparator<Float> comp) {
+        if (!Metrics.enabled) {
+            return Solution.sort2(list, comp);
+        }
+        var call = Metrics.start("sort2");
+        try {
+            return Solution.sort2(list, comp);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static List<Short> filter(Supplier<Short> gen) {
+        if (!Metrics.enabled) {
+            return Solution.filter(gen);
+        }
+        var call = Metrics.start("filter");
+        List<Short> res = null;
+        try {
+            return res = Solution.filter(gen);
+        } finally {
+            call.stop(res == null ? 0 : res.size());
+        }
+    }
+
+    public static List<Double> bubbleSort(List<Double> list, Comparator<Double> comp) {
+        if (!Metrics.enabled) {
+            return Solution.bubbleSort(list, comp);
+        }
+        var call = Metrics.start("bubbleSort");
+        try {
+            return Solution.bubbleSort(list, comp);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static Set<Long> duplicates(List<Long> list) {
+        if (!Metrics.enabled) {
+            return Solution.duplicates(list);
+        }
+        var call = Metrics.start("duplicates");
+        try {
+            return Solution.duplicates(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static List<Integer> fizz(Set<Integer> list) {
+        if (!Metrics.enabled) {
+            return Solution.fizz(list);
+        }
+        var call = Metrics.start("fizz");
+        try {
+            return Solution.fizz(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static List<Double> cast(List<Integer> list) {
+        if (!Metrics.enabled) {
+            return Solution.cast(list);
+        }
+        var call = Metrics.start("cast");
+        try {
+            return Solution.cast(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static List<Integer> duplicates2(List<Integer> list) {
+        if (!Metrics.enabled) {
+            return Solution.duplicates2(list);
+        }
+        var call = Metrics.start("duplicates2");
+        try {
+            return Solution.duplicates2(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static Integer sum(List<Integer> list) {
+        if (!Metrics.enabled) {
+            return Solution.sum(list);
+        }
+        var call = Metrics.start("sum");
+        try {
+            return Solution.sum(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static Short max(List<Short> list) {
+        if (!Metrics.enabled) {
+            return Solution.max(list);
+        }
+        var call = Metrics.start("max");
+        try {
+            return Solution.max(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static Integer averageArea(List<Rectangle> list) {
+        if (!Metrics.enabled) {
+            return Solution.averageArea(list);
+        }
+        var call = Metrics.start("averageArea");
+        try {
+            return Solution.averageArea(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static Long multiply(List<Long> list) {
+        if (!Metrics.enabled) {
+            return Solution.multiply(list);
+        }
+        var call = Metrics.start("multiply");
+        try {
+            return Solution.multiply(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static List<Long> largeMultiply(Set<Long> list) {
+        if (!Metrics.enabled) {
+            return Solution.largeMultiply(list);
+        }
+        var call = Metrics.start("largeMultiply");
+        try {
+            return Solution.largeMultiply(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+
+    public static Integer superSum(List<List<Integer>> list) {
+        if (!Metrics.enabled) {
+            return Solution.superSum(list);
+        }
+        var call = Metrics.start("superSum");
+        try {
+            return Solution.superSum(list);
+        } finally {
+            call.stop(list.size());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.lambda;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of primitive longs with linear probing. Keys are
+ * stored unboxed in a single long[]. The table doubles once it is half full, so
+ * it stays between a quarter and half full and an element costs 16 to 32
+ * bytes instead of a boxed Long plus a HashMap node. It holds at most 2^29
+ * elements.
+ * 
+ * 0 marks a free slot, so the key 0 itself is tracked by a separate flag.
+ */
+public class LongHashSet {
+    static final float LOAD_FACTOR = 0.5f;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    long[] keys;
+    boolean hasZero;
+    int size;
+    int mask;
+    int shift;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expected) {
+        allocate(capacityFor(expected));
+    }
+
+    static int capacityFor(int expected) {
+        long needed = Math.max(4, (long) Math.ceil(expected / LOAD_FACTOR));
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many elements: " + expected);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    int slot(long key) {
+        // Fibonacci hashing, the top bits of the product are well mixed.
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    // Returns true if "key" was not yet in the set.
+    public boolean add(long key) {
+        if (key == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            ++size;
+            return true;
+        }
+
+        int i = slot(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) {
+            return hasZero;
+        }
+
+        int i = slot(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Bytes held by the key table.
+    public long memoryUsage() {
+        return (long) keys.length * Long.BYTES;
+    }
+
+    public long[] toArray() {
+        var out = new long[size];
+        int k = 0;
+
+        if (hasZero) {
+            out[k++] = 0;
+        }
+        for (var x : keys) {
+            if (x != 0) {
+                out[k++] = x;
+            }
+        }
+        return out;
+    }
+
+    void rehash() {
+        var old = keys;
+        if (old.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Too many elements: " + size);
+        }
+        allocate(old.length * 2);
+
+        for (var x : old) {
+            if (x != 0) {
+                int i = slot(x);
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = x;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
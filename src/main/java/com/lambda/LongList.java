@@ -0,0 +1,59 @@
+package com.lambda;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A fixed size List<Long> view over a long[]. The values stay unboxed and are
+ * only boxed when read through the List interface; getLong and toLongArray
+ * avoid that.
+ */
+public class LongList extends AbstractList<Long> implements RandomAccess {
+    final long[] values;
+
+    public LongList(long[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public Long get(int i) {
+        return values[i];
+    }
+
+    public long getLong(int i) {
+        return values[i];
+    }
+
+    @Override
+    public Long set(int i, Long x) {
+        var old = values[i];
+        values[i] = x;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    // The backing array, not a copy.
+    public long[] toLongArray() {
+        return values;
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as AbstractList.hashCode, without boxing.
+        int h = 1;
+        for (var x : values) {
+            h = 31 * h + Long.hashCode(x);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,151 @@
+package com.lambda;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Runs the Solution aggregations directly over a binary file of fixed width
+ * values instead of a parsed List:
+ * - sum: ints
+ * - max: shorts
+ * - multiply: longs
+ * - averageArea: pairs of ints (width, height)
+ * 
+ * The file is memory mapped in chunks with FileChannel.map and read in place,
+ * nothing is copied onto the heap. The chunks are reduced with the given
+ * Execution, so a parallel one spreads them across threads. Results and
+ * exceptions on empty files are the same as for the Solution methods.
+ */
+public class MappedInput {
+    public static final int DEFAULT_CHUNK = 1 << 26; // 64 MiB
+
+    final Path path;
+    final ByteOrder order;
+    final Execution exec;
+    final int chunk;
+
+    // Big endian like DataOutputStream, read sequentially.
+    public MappedInput(Path path) {
+        this(path, ByteOrder.BIG_ENDIAN, Execution.SEQUENTIAL, DEFAULT_CHUNK);
+    }
+
+    public MappedInput(Path path, ByteOrder order, Execution exec) {
+        this(path, order, exec, DEFAULT_CHUNK);
+    }
+
+    public MappedInput(Path path, ByteOrder order, Execution exec, int chunk) {
+        if (chunk <= 0 || chunk % Long.BYTES != 0) {
+            throw new IllegalArgumentException("chunk must be a positive multiple of 8: " + chunk);
+        }
+
+        this.path = path;
+        this.order = order;
+        this.exec = exec;
+        this.chunk = chunk;
+    }
+
+    public int sum() throws IOException {
+        return reduce(Integer.BYTES, 0, buf -> {
+            var b = buf.asIntBuffer();
+            int s = 0;
+            for (int i = 0; i < b.limit(); ++i) {
+                s += b.get(i);
+            }
+            return s;
+        }, (x, y) -> x + y);
+    }
+
+    public short max() throws IOException {
+        if (length(Short.BYTES) == 0) {
+            throw new IllegalArgumentException();
+        }
+
+        return reduce(Short.BYTES, Short.MIN_VALUE, buf -> {
+            var b = buf.asShortBuffer();
+            short m = Short.MIN_VALUE;
+            for (int i = 0; i < b.limit(); ++i) {
+                if (b.get(i) > m) {
+                    m = b.get(i);
+                }
+            }
+            return m;
+        }, (x, y) -> x > y ? x : y);
+    }
+
+    public long multiply() throws IOException {
+        if (length(Long.BYTES) == 0) {
+            throw new NoSuchElementException(); // Same as Solution.multiply
+        }
+
+        return reduce(Long.BYTES, 1l, buf -> {
+            var b = buf.asLongBuffer();
+            long p = 1;
+            for (int i = 0; i < b.limit(); ++i) {
+                p *= b.get(i);
+            }
+            return p;
+        }, (x, y) -> x * y);
+    }
+
+    public int averageArea() throws IOException {
+        long count = length(2 * Integer.BYTES);
+
+        int s = reduce(2 * Integer.BYTES, 0, buf -> {
+            var b = buf.asIntBuffer();
+            int a = 0;
+            for (int i = 0; i < b.limit(); i += 2) {
+                a += b.get(i) * b.get(i + 1);
+            }
+            return a;
+        }, (x, y) -> x + y);
+
+        // In long, since past 2^31 rectangles "(int) count" would wrap. The quotient
+        // is at most |s| so it fits back in an int. Throws ArithmeticException on an
+        // empty file.
+        return (int) (s / count);
+    }
+
+    long length(int width) throws IOException {
+        try (var ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            return ch.size() / width;
+        }
+    }
+
+    <R> R reduce(int width, R identity, Function<MappedByteBuffer, R> perChunk, BinaryOperator<R> combine)
+            throws IOException {
+        try (var ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size % width != 0) {
+                throw new IllegalArgumentException(path + ": size " + size + " is not a multiple of " + width);
+            }
+
+            var starts = new ArrayList<Long>();
+            for (long p = 0; p < size; p += chunk) {
+                starts.add(p);
+            }
+
+            try {
+                return exec.run(size / width, starts, s -> s.map(p -> {
+                    try {
+                        var buf = ch.map(FileChannel.MapMode.READ_ONLY, p, Math.min(chunk, size - p));
+                        buf.order(order);
+                        return perChunk.apply(buf);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).reduce(identity, combine));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.lambda;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in call metrics for the Solution methods, recorded by
+ * InstrumentedSolution. Per method it keeps the number of calls, a histogram
+ * of input sizes, a histogram of latencies in nanoseconds and, for a sample of
+ * the calls, the bytes allocated by the calling thread.
+ * 
+ * Disabled by default (enable with -Dlambda.metrics=true or setEnabled), in
+ * which case InstrumentedSolution calls straight through and nothing is
+ * recorded or allocated. Recording is lock free: histograms are arrays of
+ * atomic counters with one bucket per power of two.
+ * 
+ * Export through JMX with registerMBean() or as plain text with report().
+ */
+public class Metrics {
+    static volatile boolean enabled = Boolean.getBoolean("lambda.metrics");
+
+    // Every SAMPLE_RATE-th call (on average) also measures allocated bytes.
+    static final int SAMPLE_RATE = 16;
+
+    static final Map<String, Stats> STATS = new ConcurrentHashMap<String, Stats>();
+
+    static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    static final boolean ALLOCATION = THREADS instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean on) {
+        if (on && ALLOCATION) {
+            ((com.sun.management.ThreadMXBean) THREADS).setThreadAllocatedMemoryEnabled(true);
+        }
+        enabled = on;
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    // Histogram -----------------------------------
+
+    // Bucket 0 counts 0 (and negatives), bucket i counts [2^(i-1), 2^i).
+    public static class Histogram {
+        final AtomicLongArray buckets = new AtomicLongArray(65);
+        final LongAdder total = new LongAdder();
+        final LongAdder count = new LongAdder();
+
+        static int bucket(long v) {
+            return v <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(v);
+        }
+
+        public void record(long v) {
+            buckets.incrementAndGet(bucket(v));
+            total.add(v);
+            count.increment();
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public double mean() {
+            long n = count.sum();
+            return n == 0 ? 0 : (double) total.sum() / n;
+        }
+
+        // Upper bound of the bucket holding the p-th percentile (0 < p <= 100).
+        public long percentile(double p) {
+            long n = 0;
+            for (int i = 0; i < buckets.length(); ++i) {
+                n += buckets.get(i);
+            }
+
+            long rank = (long) Math.ceil(n * p / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); ++i) {
+                seen += buckets.get(i);
+                if (seen >= rank && seen > 0) {
+                    return i == 0 ? 0 : i == 64 ? Long.MAX_VALUE : (1l << i) - 1;
+                }
+            }
+            return 0;
+        }
+    }
+
+    // Per method ----------------------------------
+
+    public static class Stats {
+        final LongAdder calls = new LongAdder();
+        final Histogram sizes = new Histogram();
+        final Histogram nanos = new Histogram();
+        final LongAdder sampledBytes = new LongAdder();
+        final LongAdder samples = new LongAdder();
+
+        public long calls() {
+            return calls.sum();
+        }
+
+        public Histogram sizes() {
+            return sizes;
+        }
+
+        public Histogram nanos() {
+            return nanos;
+        }
+
+        // Average bytes allocated per call over the sampled calls, -1 if none.
+        public long allocatedBytesPerCall() {
+            long n = samples.sum();
+            return n == 0 ? -1 : sampledBytes.sum() / n;
+        }
+    }
+
+    public static Stats stats(String method) {
+        return STATS.computeIfAbsent(method, m -> new Stats());
+    }
+
+    // One measured call, only created while enabled.
+    public static class Call {
+        final Stats stats;
+        final long start;
+        final long allocated; // -1 if not sampled
+
+        Call(Stats stats) {
+            this.stats = stats;
+            this.allocated = ALLOCATION && ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0 ? allocatedBytes()
+                    : -1;
+            this.start = System.nanoTime();
+        }
+
+        public void stop(long size) {
+            long nanos = System.nanoTime() - start;
+
+            stats.calls.increment();
+            stats.sizes.record(size);
+            stats.nanos.record(nanos);
+
+            if (allocated >= 0) {
+                stats.sampledBytes.add(allocatedBytes() - allocated);
+                stats.samples.increment();
+            }
+        }
+    }
+
+    static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+    }
+
+    public static Call start(String method) {
+        return new Call(stats(method));
+    }
+
+    // Export ----------------------------------------
+
+    public static String report() {
+        var sb = new StringBuilder();
+        sb.append(String.format("%-16s %10s %12s %12s %12s %12s %12s%n", "method", "calls", "size p50", "size max",
+                "ns p50", "ns p99", "bytes/call"));
+
+        for (var e : new TreeMap<String, Stats>(STATS).entrySet()) {
+            var s = e.getValue();
+            sb.append(String.format("%-16s %10d %12d %12d %12d %12d %12d%n", e.getKey(), s.calls(),
+                    s.sizes.percentile(50), s.sizes.percentile(100), s.nanos.percentile(50),
+                    s.nanos.percentile(99), s.allocatedBytesPerCall()));
+        }
+        return sb.toString();
+    }
+
+    public interface MetricsMXBean {
+        boolean isEnabled();
+
+        void setEnabled(boolean on);
+
+        void reset();
+
+        String getReport();
+
+        Map<String, Long> getCalls();
+    }
+
+    static class MBean implements MetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return Metrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean on) {
+            Metrics.setEnabled(on);
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+
+        @Override
+        public String getReport() {
+            return Metrics.report();
+        }
+
+        @Override
+        public Map<String, Long> getCalls() {
+            var m = new TreeMap<String, Long>();
+            STATS.forEach((k, v) -> m.put(k, v.calls()));
+            return m;
+        }
+    }
+
+    public static final String OBJECT_NAME = "com.lambda:type=Metrics";
+
+    // Registers the metrics with the platform MBeanServer, does nothing if already
+    // registered.
+    public static void registerMBean() {
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            var name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MBean(), name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.lambda;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.List;
+
+/**
+ * A List<List<Integer>> stored outside of the Java heap: all values in one flat
+ * direct int buffer plus an offsets index where list i spans
+ * values[offsets[i], offsets[i + 1]). Lists are appended from primitive arrays,
+ * so large inputs never have to exist as boxed collections and the GC only
+ * sees two small buffer objects.
+ * 
+ * The buffers double when full. Direct memory is released once the buffers
+ * become unreachable.
+ */
+public class OffHeapIntLists {
+    IntBuffer values;
+    IntBuffer offsets;
+    int lists;
+    int length; // Number of values in use
+
+    public OffHeapIntLists() {
+        this(16, 1024);
+    }
+
+    public OffHeapIntLists(int expectedLists, int expectedValues) {
+        values = ints(Math.max(1, expectedValues));
+        offsets = ints(Math.max(1, expectedLists) + 1);
+        offsets.put(0, 0);
+    }
+
+    static IntBuffer ints(int n) {
+        return ByteBuffer.allocateDirect(Math.multiplyExact(n, Integer.BYTES)).order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    public OffHeapIntLists add(int[] list) {
+        return add(list, 0, list.length);
+    }
+
+    public OffHeapIntLists add(int[] list, int from, int to) {
+        reserve(to - from);
+
+        values.position(length);
+        values.put(list, from, to - from);
+        length += to - from;
+
+        offsets.put(++lists, length);
+        return this;
+    }
+
+    // For converting existing inputs, boxes only while copying.
+    public OffHeapIntLists add(List<Integer> list) {
+        reserve(list.size());
+
+        for (var x : list) {
+            values.put(length++, x);
+        }
+
+        offsets.put(++lists, length);
+        return this;
+    }
+
+    void reserve(int more) {
+        if ((long) length + more > values.capacity()) {
+            // A direct buffer holds at most Integer.MAX_VALUE bytes.
+            long max = Integer.MAX_VALUE / Integer.BYTES;
+            if ((long) length + more > max) {
+                throw new IllegalArgumentException("Too many values: " + ((long) length + more));
+            }
+
+            long cap = Math.max((long) length + more, 2l * values.capacity());
+            var next = ints((int) Math.min(max, cap));
+            values.clear().limit(length);
+            next.put(values);
+            values = next;
+        }
+
+        if (lists + 2 > offsets.capacity()) {
+            var next = ints(2 * offsets.capacity());
+            offsets.clear().limit(lists + 1);
+            next.put(offsets);
+            offsets = next;
+        }
+    }
+
+    public int size() {
+        return lists;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int length(int list) {
+        return offsets.get(list + 1) - offsets.get(list);
+    }
+
+    public int get(int list, int i) {
+        return values.get(offsets.get(list) + i);
+    }
+
+    // Same result as Solution.superSum, including int wrap around.
+    public int superSum() {
+        // The lists are contiguous, so the sum of sums is one pass over the values.
+        int s = 0;
+        for (int i = 0; i < length; ++i) {
+            s += values.get(i);
+        }
+        return s;
+    }
+
+    public int sum(int list) {
+        int s = 0;
+        int end = offsets.get(list + 1);
+        for (int i = offsets.get(list); i < end; ++i) {
+            s += values.get(i);
+        }
+        return s;
+    }
+}
@@ -0,0 +1,105 @@
+package com.lambda;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Collection;
+
+/**
+ * A growable sequence of longs in a direct buffer outside of the Java heap, used
+ * as input and output of Solution.largeMultiply(OffHeapLongs). The values are
+ * taken as they are; callers coming from a Set are responsible for them being
+ * distinct.
+ */
+public class OffHeapLongs {
+    LongBuffer values;
+    int length;
+
+    public OffHeapLongs() {
+        this(1024);
+    }
+
+    public OffHeapLongs(int expected) {
+        values = longs(Math.max(1, expected));
+    }
+
+    static LongBuffer longs(int n) {
+        return ByteBuffer.allocateDirect(Math.multiplyExact(n, Long.BYTES)).order(ByteOrder.nativeOrder())
+                .asLongBuffer();
+    }
+
+    public static OffHeapLongs of(long[] arr) {
+        return new OffHeapLongs(arr.length).add(arr);
+    }
+
+    // For converting existing inputs, boxes only while copying.
+    public static OffHeapLongs of(Collection<Long> list) {
+        var out = new OffHeapLongs(list.size());
+        for (var x : list) {
+            out.add(x);
+        }
+        return out;
+    }
+
+    public OffHeapLongs add(long x) {
+        reserve(1);
+        values.put(length++, x);
+        return this;
+    }
+
+    public OffHeapLongs add(long[] arr) {
+        reserve(arr.length);
+        values.position(length);
+        values.put(arr);
+        length += arr.length;
+        return this;
+    }
+
+    void reserve(int more) {
+        if ((long) length + more > values.capacity()) {
+            // A direct buffer holds at most Integer.MAX_VALUE bytes.
+            long max = Integer.MAX_VALUE / Long.BYTES;
+            if ((long) length + more > max) {
+                throw new IllegalArgumentException("Too many values: " + ((long) length + more));
+            }
+
+            long cap = Math.max((long) length + more, 2l * values.capacity());
+            var next = longs((int) Math.min(max, cap));
+            values.clear().limit(length);
+            next.put(values);
+            values = next;
+        }
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public long get(int i) {
+        return values.get(i);
+    }
+
+    public long[] toArray() {
+        var out = new long[length];
+        values.position(0);
+        values.get(out);
+        return out;
+    }
+
+    // Multiplies every value by the largest one, in place.
+    public OffHeapLongs largeMultiply() {
+        if (length == 0) {
+            return this;
+        }
+
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; ++i) {
+            max = Math.max(max, values.get(i));
+        }
+
+        for (int i = 0; i < length; ++i) {
+            values.put(i, values.get(i) * max);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,185 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A lazy pipeline of int operations. filter, map and distinct only record a
+ * stage; the terminal operation chains all stages into one Sink and pushes
+ * every source value through it in a single loop, so nothing in between is
+ * materialized or boxed.
+ * 
+ * The Solution exercises map onto it, for example
+ * - fizz: Pipeline.of(set).filter(x -> x % 3 == 0).toList()
+ * - cast: Pipeline.of(arr).toDoubleArray()
+ * - duplicates2: Pipeline.of(arr).distinct().toArray()
+ * - sum: Pipeline.of(arr).sum()
+ * 
+ * Pipelines are immutable and can be run any number of times.
+ */
+public class Pipeline {
+    @FunctionalInterface
+    interface Sink {
+        void accept(int x);
+    }
+
+    @FunctionalInterface
+    interface Stage {
+        Sink wrap(Sink downstream);
+    }
+
+    final int[] source;
+    final Stage stage; // All stages so far, null for none
+
+    Pipeline(int[] source, Stage stage) {
+        this.source = source;
+        this.stage = stage;
+    }
+
+    public static Pipeline of(int... source) {
+        return new Pipeline(source, null);
+    }
+
+    // Unboxes "source" once up front.
+    public static Pipeline of(Collection<Integer> source) {
+        var arr = new int[source.size()];
+        int i = 0;
+        for (var x : source) {
+            arr[i++] = x;
+        }
+        return of(arr);
+    }
+
+    public static Pipeline range(int from, int to) {
+        var arr = new int[Math.max(0, to - from)];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = from + i;
+        }
+        return of(arr);
+    }
+
+    Pipeline then(Stage next) {
+        if (stage == null) {
+            return new Pipeline(source, next);
+        }
+
+        var prev = stage;
+        return new Pipeline(source, downstream -> prev.wrap(next.wrap(downstream)));
+    }
+
+    public Pipeline filter(IntPredicate pred) {
+        return then(down -> x -> {
+            if (pred.test(x)) {
+                down.accept(x);
+            }
+        });
+    }
+
+    public Pipeline map(IntUnaryOperator op) {
+        return then(down -> x -> down.accept(op.applyAsInt(x)));
+    }
+
+    // Keeps the first occurrence of each value, like Stream.distinct. The set starts
+    // small and grows with the distinct values that actually reach it.
+    public Pipeline distinct() {
+        return distinct(16);
+    }
+
+    // Sizes the set for "expected" distinct values up front to save the rehashing,
+    // growing if there are more.
+    public Pipeline distinct(int expected) {
+        return then(down -> {
+            var seen = new IntHashSet(expected); // New for every run
+            return x -> {
+                if (seen.add(x)) {
+                    down.accept(x);
+                }
+            };
+        });
+    }
+
+    void run(Sink sink) {
+        var head = stage == null ? sink : stage.wrap(sink);
+        for (var x : source) {
+            head.accept(x);
+        }
+    }
+
+    // Terminal operations ----------------------------
+
+    static class Reducer implements Sink {
+        final IntBinaryOperator op;
+        int acc;
+
+        Reducer(int identity, IntBinaryOperator op) {
+            this.acc = identity;
+            this.op = op;
+        }
+
+        @Override
+        public void accept(int x) {
+            acc = op.applyAsInt(acc, x);
+        }
+    }
+
+    static class ArraySink implements Sink {
+        int[] out = new int[16];
+        int size;
+
+        @Override
+        public void accept(int x) {
+            if (size == out.length) {
+                out = Arrays.copyOf(out, 2 * size);
+            }
+            out[size++] = x;
+        }
+    }
+
+    public int reduce(int identity, IntBinaryOperator op) {
+        var r = new Reducer(identity, op);
+        run(r);
+        return r.acc;
+    }
+
+    // Wraps around like Solution.sum.
+    public int sum() {
+        var r = new Reducer(0, Integer::sum);
+        run(r);
+        return r.acc;
+    }
+
+    public long count() {
+        var r = new long[1];
+        run(x -> ++r[0]);
+        return r[0];
+    }
+
+    public int[] toArray() {
+        var c = new ArraySink();
+        run(c);
+        return Arrays.copyOf(c.out, c.size);
+    }
+
+    public double[] toDoubleArray() {
+        var arr = toArray();
+        var out = new double[arr.length];
+        for (int i = 0; i < arr.length; ++i) {
+            out[i] = arr[i];
+        }
+        return out;
+    }
+
+    public List<Integer> toList() {
+        var arr = toArray();
+        var l = new ArrayList<Integer>(arr.length);
+        for (var x : arr) {
+            l.add(x);
+        }
+        return l;
+    }
+}
@@ -0,0 +1,192 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming versions of Solution.filter. Instead of collecting every odd value
+ * into a List they hand the values on while the generator runs, so memory stays
+ * constant no matter how long the generator keeps going. Every method also
+ * takes any other ShortPredicate (or boxed Predicate<Short> through of()).
+ * 
+ * All methods pull from the generator on the calling thread. A sink that blocks
+ * therefore also stops the generator from being pulled, which is the
+ * backpressure; a BatchSink can additionally return false to stop early.
+ * 
+ * batches() pulls a whole batch before filtering it with compact(), a branch
+ * free loop over a short[] that the JIT can unroll and vectorize.
+ */
+public class ShortFilter {
+    public static final int DEFAULT_BATCH = 1024;
+
+    @FunctionalInterface
+    public interface ShortSupplier {
+        short getAsShort();
+    }
+
+    @FunctionalInterface
+    public interface ShortConsumer {
+        void accept(short x);
+    }
+
+    @FunctionalInterface
+    public interface ShortPredicate {
+        boolean test(short x);
+    }
+
+    @FunctionalInterface
+    public interface BatchSink {
+        // Receives batch[0, length). The array is reused for the next batch, so copy
+        // what has to be kept. Return false to stop pulling from the generator.
+        boolean accept(short[] batch, int length);
+    }
+
+    // n % 2 == 1 misses negative odd numbers since their remainder is -1.
+    public static final ShortPredicate ODD = n -> (n & 1) != 0;
+
+    public static ShortPredicate of(Predicate<Short> pred) {
+        return x -> pred.test(x);
+    }
+
+    static ShortSupplier unboxed(Supplier<Short> gen) {
+        return () -> gen.get();
+    }
+
+    // Same as Solution.filter but with any predicate.
+    public static List<Short> filter(ShortSupplier gen, ShortPredicate pred) {
+        var l = new ArrayList<Short>();
+        batches(gen, pred, DEFAULT_BATCH, (batch, len) -> {
+            for (int i = 0; i < len; ++i) {
+                l.add(batch[i]);
+            }
+            return true;
+        });
+        return l;
+    }
+
+    // Copies the values of in[0, length) matching "pred" to the front of "out" and
+    // returns how many there were. "out" may be "in".
+    public static int compact(short[] in, int length, ShortPredicate pred, short[] out) {
+        int k = 0;
+        for (int i = 0; i < length; ++i) {
+            var x = in[i];
+            out[k] = x; // Always written, only kept when matching
+            k += pred.test(x) ? 1 : 0;
+        }
+        return k;
+    }
+
+    // Lazy stream of the odd values, ends when the generator returns 0.
+    public static Stream<Short> stream(Supplier<Short> gen) {
+        return stream(unboxed(gen), ODD);
+    }
+
+    public static Stream<Short> stream(ShortSupplier gen, ShortPredicate pred) {
+        return StreamSupport.stream(new FilterSpliterator(gen, pred), false);
+    }
+
+    // Pushes each odd value to "sink" and returns how many there were.
+    public static long forEach(Supplier<Short> gen, ShortConsumer sink) {
+        return forEach(unboxed(gen), ODD, sink);
+    }
+
+    public static long forEach(ShortSupplier gen, ShortPredicate pred, ShortConsumer sink) {
+        long count = 0;
+
+        for (short n = gen.getAsShort(); n != 0; n = gen.getAsShort()) {
+            if (pred.test(n)) {
+                sink.accept(n);
+                ++count;
+            }
+        }
+
+        return count;
+    }
+
+    public static long batches(Supplier<Short> gen, BatchSink sink) {
+        return batches(unboxed(gen), ODD, DEFAULT_BATCH, sink);
+    }
+
+    // Pushes the matching values to "sink" in batches of at most "maxBuffer" values.
+    // Two buffers of that size are the only memory used. Returns the number of
+    // values handed to the sink.
+    public static long batches(ShortSupplier gen, ShortPredicate pred, int maxBuffer, BatchSink sink) {
+        if (maxBuffer <= 0) {
+            throw new IllegalArgumentException("maxBuffer <= 0");
+        }
+
+        var raw = new short[maxBuffer];
+        var out = new short[maxBuffer];
+        int len = 0;
+        long count = 0;
+        boolean done = false;
+
+        while (!done) {
+            // Pull at most the free space of "out", so the compacted values always fit.
+            int n = 0;
+            while (n < out.length - len) {
+                var x = gen.getAsShort();
+                if (x == 0) {
+                    done = true;
+                    break;
+                }
+                raw[n++] = x;
+            }
+
+            int kept = compact(raw, n, pred, raw);
+            System.arraycopy(raw, 0, out, len, kept);
+            len += kept;
+
+            if (len == out.length) {
+                count += len;
+                len = 0;
+
+                if (!sink.accept(out, out.length)) {
+                    return count;
+                }
+            }
+        }
+
+        if (len > 0) {
+            count += len;
+            sink.accept(out, len);
+        }
+
+        return count;
+    }
+
+    static class FilterSpliterator extends Spliterators.AbstractSpliterator<Short> {
+        final ShortSupplier gen;
+        final ShortPredicate pred;
+        boolean done;
+
+        FilterSpliterator(ShortSupplier gen, ShortPredicate pred) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.gen = gen;
+            this.pred = pred;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Short> action) {
+            while (!done) {
+                short n = gen.getAsShort();
+
+                if (n == 0) {
+                    done = true;
+                } else if (pred.test(n)) {
+                    action.accept(n);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
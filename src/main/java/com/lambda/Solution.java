@@ -1,10 +1,15 @@
 package com.lambda;
 
+import java.math.BigInteger;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -17,31 +22,48 @@ import java.util.stream.Collectors;
 import com.lambda.App.Rectangle;
 
 public class Solution {
+    // The lambda factories return these shared instances instead of building a new
+    // lambda on every call.
+
+    static final BiFunction<Integer, Integer, Integer> MINIMUM = (x, y) -> {
+        if (x < y) {
+            return x;
+        } else {
+            return y;
+        }
+    };
+
+    static final Consumer<Object> PRINTER = x -> System.out.println(x);
+
+    static final Comparator<Integer> COMPARE = (x, y) -> x - y;
+
+    static final Predicate<Character> DIGIT = c -> {
+        int x = (int) c - (int) '0';
+        return 0 <= x && x <= 9;
+    };
+
+    static final Function<LocalDate, String> TIME = DateFormatter::format;
+
     public static BiFunction<Integer, Integer, Integer> minimum() {
         // Return a lambda accepting 2 Integer parameters and returning the minimum of
         // the 2.
-        return (x, y) -> {
-            if (x < y) {
-                return x;
-            } else {
-                return y;
-            }
-        };
+        return MINIMUM;
 
         // Or return Integer::min;
 
         // Or return (x, y) -> x < y ? x : y;
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Consumer<T> printer() {
         // Return a lambda accepting a parameter and printing it to the console.
-        return x -> System.out.println(x);
+        return (Consumer<T>) PRINTER; // Accepts any Object, so the cast is safe
     }
 
     public static Comparator<Integer> compare() {
         // This time return a lambda accepting 2 Integer parameters and returning a
         // Integer comparing the 2. (See the Comparator specifications).
-        return (x, y) -> x - y;
+        return COMPARE;
 
         // Or return Integer::compare;
     }
@@ -49,10 +71,7 @@ public class Solution {
     public static Predicate<Character> digit() {
         // Return a lambda accepting a Character parameter and returning true or false
         // if the character is a digit or not.
-        return c -> {
-            int x = (int) c - (int) '0';
-            return 0 <= x && x <= 9;
-        };
+        return DIGIT;
 
         // Or return c -> {
         // switch (c) {
@@ -78,7 +97,11 @@ public class Solution {
     public static Function<LocalDate, String> time() {
         // Return a lambda accepting a LocalDate parameter and returning a String which
         // formats the date like so: "<Year>:<Month>:<Day>".
-        return d -> String.format("%d-%d-%d", d.getYear(), d.getMonthValue(), d.getDayOfMonth());
+        return TIME;
+
+        // Or return d -> String.format("%d-%d-%d", d.getYear(), d.getMonthValue(),
+        // d.getDayOfMonth()); which gives the same String but parses the format and
+        // boxes the 3 ints on every call.
     }
 
     public static Boolean checkString(String in, Predicate<Character> isDigit) {
@@ -94,28 +117,30 @@ public class Solution {
 
     public static List<Byte> sort(List<Byte> list, Comparator<Byte> comp) {
         // Sort "list" from lowest to highest and output its contents.
-        list.sort(comp);
-        return list;
+        // A counting sort for large lists in natural or reversed byte order, else
+        // list.sort(comp).
+        return CountingSort.sortBytes(list, comp);
     }
 
     public static List<Float> sort2(List<Float> list, Comparator<Float> comp) {
         // Sort "list" from HIGHEST to LOWEST and output its contents.
-        list.sort((x, y) -> -comp.compare(x, y));
+        // Radix sorts for FloatSort.NATURAL/REVERSED, else list.sort with swapped
+        // comparator arguments.
+        return FloatSort.sortDescending(list, comp);
         // Or list.sort(comp.reversed());
-
-        return list;
     }
 
     public static List<Short> filter(Supplier<Short> gen) {
         // Output all odd numbers as a List in the same order as what "gen" generates.
         var l = new ArrayList<Short>();
 
-        var n = gen.get();
+        // Unboxed once per value. n % 2 == 1 would miss the negative odd numbers.
+        short n = gen.get();
         while (n != 0) {
-            if (n % 2 == 1) {
+            if ((n & 1) != 0) {
                 l.add(n);
             }
-            
+
             n = gen.get();
         }
 
@@ -126,53 +151,56 @@ public class Solution {
         // Implement a sorting algorithm sorting "list" from HIGHEST to the LOWEST.
         // Refrain from using list.sort(...). Tipp: search bubble sort (:
 
-        boolean isSorted = true;
-
-        for (int i = 0; i < list.size(); ++i) {
-            for (int j = 1; j < (list.size() - i); ++j) {
-                if (-comp.compare(list.get(j - 1), list.get(j)) > 0) {
-                    // Swap elements
-                    var tmp = list.get(j);
-                    list.set(j, list.get(j - 1));
-                    list.set(j - 1, tmp);
-
-                    isSorted = false;
-                }
-            }
-
-            if (isSorted) {
-                break;
-            }
-
-            isSorted = true;
-        }
-
-        return list;
+        // The quadratic bubble sort was replaced by SortEngine, which keeps the same
+        // stable HIGHEST to LOWEST result.
+        return SortEngine.sortDescending(list, comp);
     }
 
     public static Set<Long> duplicates(List<Long> list) {
         // Given a List of Integers remove all the duplicates.
-        return list.stream().collect(Collectors.toSet());
+        return duplicates(list, Execution.SEQUENTIAL);
+    }
+
+    public static Set<Long> duplicates(List<Long> list, Execution exec) {
+        return exec.run(list, s -> s.collect(Collectors.toSet()));
     }
 
     public static List<Integer> fizz(Set<Integer> list) {
         // Given a Set of Integers remove all Integers not divisible by 3.
-        return list.stream().filter(x -> x % 3 == 0).collect(Collectors.toList());
+        return fizz(list, Execution.SEQUENTIAL);
+    }
+
+    public static List<Integer> fizz(Set<Integer> list, Execution exec) {
+        return exec.run(list, s -> s.filter(x -> x % 3 == 0).collect(Collectors.toList()));
     }
 
     public static List<Double> cast(List<Integer> list) {
         // Given a List of Integers cast them to a list of Doubles.
-        return list.stream().map(x -> (double) x.intValue()).collect(Collectors.toList());
+        return cast(list, Execution.SEQUENTIAL);
+    }
+
+    public static List<Double> cast(List<Integer> list, Execution exec) {
+        return exec.run(list, s -> s.map(x -> (double) x.intValue()).collect(Collectors.toList()));
     }
 
     public static List<Integer> duplicates2(List<Integer> list) {
         // Given a List of Integers remove all the duplicates.
-        return list.stream().distinct().collect(Collectors.toList());
+        return duplicates2(list, Execution.SEQUENTIAL);
+    }
+
+    public static List<Integer> duplicates2(List<Integer> list, Execution exec) {
+        // distinct() on an ordered parallel stream keeps the first occurrence of each
+        // value in encounter order, so the result is the same as sequentially.
+        return exec.run(list, s -> s.distinct().collect(Collectors.toList()));
     }
 
     public static Integer sum(List<Integer> list) {
         // Return the sum of all Integers in "list".
-        return list.stream().mapToInt(x -> x).sum();
+        return sum(list, Execution.SEQUENTIAL);
+    }
+
+    public static Integer sum(List<Integer> list, Execution exec) {
+        return exec.run(list, s -> s.mapToInt(x -> x).sum());
     }
 
     public static Short max(List<Short> list) {
@@ -197,20 +225,300 @@ public class Solution {
         return list.stream().reduce((x, y) -> x * y).get();
     }
 
+    // Overflow safe variants -----------------------
+    //
+    // sum, multiply and averageArea above wrap around silently. These stay on
+    // primitives while the result fits and either throw an ArithmeticException
+    // (*Exact) or switch to a wider type (*Wide) once it would not.
+
+    public static long sumWide(List<Integer> list) {
+        // Even 2^31 elements of Integer.MAX_VALUE fit a long, so no check is needed.
+        long s = 0;
+        for (var x : list) {
+            s += x;
+        }
+        return s;
+    }
+
+    public static int sumExact(List<Integer> list) {
+        return Math.toIntExact(sumWide(list));
+    }
+
+    public static long multiplyExact(List<Long> list) {
+        var it = list.iterator();
+        long p = it.next(); // Throws NoSuchElementException like multiply
+
+        while (it.hasNext()) {
+            p = Math.multiplyExact(p, it.next());
+        }
+        return p;
+    }
+
+    public static BigInteger multiplyWide(List<Long> list) {
+        var it = list.iterator();
+        long p = it.next();
+
+        while (it.hasNext()) {
+            long x = it.next();
+            long hi = Math.multiplyHigh(p, x);
+            long lo = p * x;
+
+            if ((hi == 0 && lo >= 0) || (hi == -1 && lo < 0)) {
+                p = lo;
+                continue;
+            }
+
+            // Overflow: finish the remaining elements with BigInteger.
+            var big = BigInteger.valueOf(p).multiply(BigInteger.valueOf(x));
+            while (it.hasNext()) {
+                big = big.multiply(BigInteger.valueOf(it.next()));
+            }
+            return big;
+        }
+
+        return BigInteger.valueOf(p);
+    }
+
+    public static long averageAreaWide(List<Rectangle> list) {
+        // A single w * h always fits a long, only the running sum can overflow, which
+        // Accumulators.AverageArea carries on into a BigInteger.
+        var acc = new Accumulators.AverageArea();
+        for (var r : list) {
+            acc.add(r);
+        }
+        return acc.getWide(); // Throws ArithmeticException on an empty list like averageArea
+    }
+
     public static List<Long> largeMultiply(Set<Long> list) {
         // Return a List of all Long numbers in "list" but multiplied with the largest
         // Long in "list".
+        return largeMultiply(list, Execution.SEQUENTIAL);
+    }
 
+    public static List<Long> largeMultiply(Set<Long> list, Execution exec) {
         if (list.isEmpty()) {
             return new ArrayList<Long>();
         }
 
-        var max = list.stream().mapToLong(x -> x).max().getAsLong();
-        return list.stream().map(x -> x * max).collect(Collectors.toList());
+        var max = exec.run(list, s -> s.mapToLong(x -> x).max().getAsLong());
+        return exec.run(list, s -> s.map(x -> x * max).collect(Collectors.toList()));
+    }
+
+    public static LongList largeMultiplyView(Set<Long> list) {
+        return largeMultiplyView(list, Execution.SEQUENTIAL);
+    }
+
+    // Same values and order as largeMultiply, but the set is traversed only once:
+    // it is copied into a long[] while tracking the max, which is then scaled in
+    // place (in parallel chunks if "exec" says so) and returned as a view.
+    public static LongList largeMultiplyView(Set<Long> list, Execution exec) {
+        var arr = new long[list.size()];
+        long max = Long.MIN_VALUE;
+        int i = 0;
+
+        for (long x : list) {
+            arr[i++] = x;
+            max = x > max ? x : max;
+        }
+
+        final long m = max;
+        exec.forRange(arr.length, (from, to) -> {
+            for (int j = from; j < to; ++j) {
+                arr[j] *= m;
+            }
+        });
+
+        return new LongList(arr);
     }
 
     public static Integer superSum(List<List<Integer>> list) {
         // Return the sum of the sum of all the lists in the list.
-        return list.stream().mapToInt(x -> x.stream().mapToInt(y -> y).sum()).sum();
+        return superSum(list, Execution.SEQUENTIAL);
+    }
+
+    public static Integer superSum(List<List<Integer>> list, Execution exec) {
+        // One flat range of elements instead of a stream per inner list, see SuperSum.
+        return (int) new SuperSum(list).sum(exec);
+    }
+
+    // Primitive overloads -------------------------
+    //
+    // Same results as the boxed versions above (including int/long wrap around and
+    // the exceptions on empty input) but without unboxing every element. Buffers
+    // are read from position() to limit() and their position is left untouched.
+
+    public static int sum(int[] arr) {
+        int s = 0;
+        for (int i = 0; i < arr.length; ++i) {
+            s += arr[i];
+        }
+        return s;
+    }
+
+    public static int sum(IntBuffer buf) {
+        int s = 0;
+        for (int i = buf.position(); i < buf.limit(); ++i) {
+            s += buf.get(i);
+        }
+        return s;
+    }
+
+    public static short max(short[] arr) {
+        if (arr.length == 0) {
+            throw new IllegalArgumentException();
+        }
+
+        short m = arr[0];
+        for (int i = 1; i < arr.length; ++i) {
+            if (arr[i] > m) {
+                m = arr[i];
+            }
+        }
+        return m;
+    }
+
+    public static short max(ShortBuffer buf) {
+        if (!buf.hasRemaining()) {
+            throw new IllegalArgumentException();
+        }
+
+        short m = buf.get(buf.position());
+        for (int i = buf.position() + 1; i < buf.limit(); ++i) {
+            if (buf.get(i) > m) {
+                m = buf.get(i);
+            }
+        }
+        return m;
+    }
+
+    public static long multiply(long[] arr) {
+        if (arr.length == 0) {
+            throw new NoSuchElementException(); // Same as Optional.get() above
+        }
+
+        long p = arr[0];
+        for (int i = 1; i < arr.length; ++i) {
+            p *= arr[i];
+        }
+        return p;
+    }
+
+    public static long multiply(LongBuffer buf) {
+        if (!buf.hasRemaining()) {
+            throw new NoSuchElementException();
+        }
+
+        long p = buf.get(buf.position());
+        for (int i = buf.position() + 1; i < buf.limit(); ++i) {
+            p *= buf.get(i);
+        }
+        return p;
+    }
+
+    public static double[] cast(int[] arr) {
+        var out = new double[arr.length];
+        for (int i = 0; i < arr.length; ++i) {
+            out[i] = arr[i];
+        }
+        return out;
+    }
+
+    public static double[] cast(IntBuffer buf) {
+        var out = new double[buf.remaining()];
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = buf.get(buf.position() + i);
+        }
+        return out;
+    }
+
+    // Set semantics like duplicates(List<Long>), in no particular order. The set
+    // is presized for at most 2^16 values and grows from there, so few distinct
+    // values in a huge array stay cheap.
+    public static long[] duplicates(long[] arr) {
+        var set = new LongHashSet(Math.min(arr.length, 1 << 16));
+        for (var x : arr) {
+            set.add(x);
+        }
+        return set.toArray();
+    }
+
+    // Keeps the first occurrence of each value in order like duplicates2(List).
+    // Presized like duplicates(long[]).
+    public static int[] duplicates2(int[] arr) {
+        return Pipeline.of(arr).distinct(Math.min(arr.length, 1 << 16)).toArray();
+    }
+
+    public static int[] fizz(int[] arr) {
+        return Pipeline.of(arr).filter(x -> x % 3 == 0).toArray();
+    }
+
+    // Off-heap inputs --------------------------------
+
+    public static int superSum(OffHeapIntLists list) {
+        return list.superSum();
+    }
+
+    // Scales "list" in place and returns it, nothing is copied onto the heap.
+    public static OffHeapLongs largeMultiply(OffHeapLongs list) {
+        return list.largeMultiply();
+    }
+
+    // Columnar inputs --------------------------------
+
+    public static Integer averageArea(RectangleBatch list) {
+        return list.averageArea();
+    }
+
+    // Sketches ---------------------------------------
+    //
+    // For callers that only need duplicates(list).size() or membership in it: a
+    // fixed size sketch instead of a HashSet holding every distinct value.
+
+    // Estimates duplicates(list).size() with a relative standard error of at most
+    // "error".
+    public static long duplicatesCount(List<Long> list, double error) {
+        return duplicatesSketch(list, error, Execution.SEQUENTIAL).estimate();
+    }
+
+    // Partial sketches of parallel chunks are merged, so the estimate is the same
+    // as sequentially.
+    public static HyperLogLog duplicatesSketch(List<Long> list, double error, Execution exec) {
+        int precision = HyperLogLog.precisionFor(error);
+        return exec.run(list, s -> s.collect(HyperLogLog.collector(precision)));
+    }
+
+    // Estimates duplicates2(list).size().
+    public static long duplicates2Count(List<Integer> list, double error) {
+        return duplicates2Sketch(list, error, Execution.SEQUENTIAL).estimate();
+    }
+
+    // As duplicatesSketch, for int elements.
+    public static HyperLogLog duplicates2Sketch(List<Integer> list, double error, Execution exec) {
+        int precision = HyperLogLog.precisionFor(error);
+        return exec.run(list, s -> s.collect(() -> new HyperLogLog(precision), HyperLogLog::add, HyperLogLog::merge));
+    }
+
+    // Sized for list.size() distinct values, so the false positive rate is at most
+    // "fpp" and lower when "list" has duplicates.
+    public static BloomFilter duplicatesFilter(List<Long> list, double fpp) {
+        return duplicatesFilter(list, fpp, Execution.SEQUENTIAL);
+    }
+
+    // In parallel all workers fill the same filter, so memory stays at one filter
+    // however many splits the stream makes.
+    public static BloomFilter duplicatesFilter(List<Long> list, double fpp, Execution exec) {
+        var filter = new BloomFilter(Math.max(1, list.size()), fpp);
+
+        if (!exec.isParallel(list.size())) {
+            for (long x : list) {
+                filter.add(x);
+            }
+            return filter;
+        }
+
+        return exec.run(list, s -> {
+            s.forEach(x -> filter.addConcurrent(x));
+            return filter;
+        });
     }
 }
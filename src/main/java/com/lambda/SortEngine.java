@@ -0,0 +1,91 @@
+package com.lambda;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts a List<Double> from HIGHEST to LOWEST according to a comparator. Used by
+ * Solution.bubbleSort.
+ * 
+ * The list is copied out once, sorted as an array and written back through a
+ * ListIterator, so LinkedList inputs cost O(n) list operations instead of
+ * O(n^2). The algorithm depends on the input:
+ * - Up to INSERTION_THRESHOLD elements: stable insertion sort.
+ * - NATURAL, REVERSED, Comparator.naturalOrder() or Comparator.reverseOrder():
+ * unboxed into a double[] and sorted with the dual-pivot quicksort of
+ * Arrays.sort(double[]), which orders exactly like Double.compare.
+ * - Any other comparator: Arrays.sort(Object[], Comparator), a stable TimSort
+ * which merges already sorted runs.
+ */
+public class SortEngine {
+    // Double::compare cannot be recognized by identity, so callers wanting the
+    // primitive path pass one of these.
+    public static final Comparator<Double> NATURAL = Comparator.naturalOrder();
+    public static final Comparator<Double> REVERSED = Comparator.reverseOrder();
+
+    static final int INSERTION_THRESHOLD = 32;
+
+    public static List<Double> sortDescending(List<Double> list, Comparator<Double> comp) {
+        if (list.size() < 2) {
+            return list;
+        }
+
+        if (comp == NATURAL || comp == REVERSED) {
+            sortPrimitive(list, comp == REVERSED);
+            return list;
+        }
+
+        var arr = list.toArray(new Double[0]);
+        Comparator<Double> desc = (x, y) -> comp.compare(y, x); // Not -compare, that overflows on MIN_VALUE
+
+        if (arr.length <= INSERTION_THRESHOLD) {
+            insertionSort(arr, desc);
+        } else {
+            Arrays.sort(arr, desc);
+        }
+
+        writeBack(list, arr);
+        return list;
+    }
+
+    static <T> void insertionSort(T[] arr, Comparator<? super T> comp) {
+        for (int i = 1; i < arr.length; ++i) {
+            var x = arr[i];
+            int j = i - 1;
+
+            // Strictly greater keeps equal elements in their original order.
+            while (j >= 0 && comp.compare(arr[j], x) > 0) {
+                arr[j + 1] = arr[j];
+                --j;
+            }
+
+            arr[j + 1] = x;
+        }
+    }
+
+    // Highest to lowest under "reversed ? reverseOrder : naturalOrder".
+    static void sortPrimitive(List<Double> list, boolean reversed) {
+        var arr = new double[list.size()];
+        int i = 0;
+        for (var x : list) {
+            arr[i++] = x;
+        }
+
+        Arrays.sort(arr); // Lowest to highest
+
+        var it = list.listIterator();
+        for (int j = 0; j < arr.length; ++j) {
+            it.next();
+            it.set(reversed ? arr[j] : arr[arr.length - 1 - j]);
+        }
+    }
+
+    static <T> void writeBack(List<T> list, T[] arr) {
+        var it = list.listIterator();
+        for (var x : arr) {
+            it.next();
+            it.set(x);
+        }
+    }
+}
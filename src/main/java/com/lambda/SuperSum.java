@@ -0,0 +1,141 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sums a List<List<Integer>> as one flat range of elements. The inner list
+ * sizes are read once up front into a prefix array, then the range [0, total)
+ * is split by element count rather than by list: a chunk covers a run of tiny
+ * lists or a slice of a huge one, so neither per-list setup nor one big list
+ * decides the running time. Chunks run as RecursiveTasks on the Execution's
+ * pool, where idle workers steal the halves that are still unsplit.
+ * 
+ * The sum is a long; Solution.superSum keeps its low 32 bits.
+ */
+public class SuperSum {
+    public static final int DEFAULT_GRAIN = 8192;
+
+    final List<Integer>[] lists;
+    final long[] starts; // starts[i] elements come before list i, starts[lists.length] is the total
+    final int grain;
+
+    public SuperSum(List<List<Integer>> list) {
+        this(list, DEFAULT_GRAIN);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public SuperSum(List<List<Integer>> list, int grain) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("grain < 1");
+        }
+
+        this.lists = list.toArray(new List[0]);
+        this.starts = new long[lists.length + 1];
+        this.grain = grain;
+
+        for (int i = 0; i < lists.length; ++i) {
+            starts[i + 1] = starts[i] + lists[i].size();
+        }
+    }
+
+    public long size() {
+        return starts[lists.length];
+    }
+
+    public long sum() {
+        return sum(Execution.SEQUENTIAL);
+    }
+
+    public long sum(Execution exec) {
+        if (!exec.isParallel(size())) {
+            // One pass over each list, which needs no random access.
+            long s = 0;
+            for (var l : lists) {
+                for (int x : l) {
+                    s += x;
+                }
+            }
+            return s;
+        }
+
+        var task = new Chunk(randomAccess(), 0, size());
+        return exec.pool == null ? ForkJoinPool.commonPool().invoke(task) : exec.pool.invoke(task);
+    }
+
+    // A chunk starting inside a LinkedList would first walk to its offset, so for
+    // chunking the lists without random access are copied, once per sum.
+    List<Integer>[] randomAccess() {
+        var copy = lists;
+        for (int i = 0; i < lists.length; ++i) {
+            if (!(lists[i] instanceof RandomAccess)) {
+                if (copy == lists) {
+                    copy = lists.clone();
+                }
+                copy[i] = new ArrayList<Integer>(lists[i]);
+            }
+        }
+        return copy;
+    }
+
+    class Chunk extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        final List<Integer>[] lists;
+        final long from, to;
+
+        Chunk(List<Integer>[] lists, long from, long to) {
+            this.lists = lists;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= grain) {
+                return sum(lists, from, to);
+            }
+
+            long mid = (from + to) >>> 1;
+            var right = new Chunk(lists, mid, to);
+            right.fork();
+            long left = new Chunk(lists, from, mid).compute();
+            return left + right.join();
+        }
+    }
+
+    // Sums the elements [from, to) of the flat range, "lists" all random access.
+    long sum(List<Integer>[] lists, long from, long to) {
+        long s = 0;
+        int i = list(from);
+        int offset = (int) (from - starts[i]);
+
+        for (long pos = from; pos < to; ++i, offset = 0) {
+            var l = lists[i];
+            int end = (int) Math.min(l.size(), offset + (to - pos));
+
+            for (int j = offset; j < end; ++j) {
+                s += l.get(j);
+            }
+            pos += end - offset;
+        }
+        return s;
+    }
+
+    // The last list starting at or before "pos", which skips empty lists.
+    int list(long pos) {
+        int lo = 0, hi = lists.length;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= pos) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
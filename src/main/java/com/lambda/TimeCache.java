@@ -0,0 +1,96 @@
+package com.lambda;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Memoizes a LocalDate formatter such as Solution.time(). Keeps at most
+ * maxSize dates and evicts the least recently used one beyond that. Counts
+ * hits, misses and evictions.
+ * 
+ * Thread safe. Lookups hold a lock only for the map access; formatting on a
+ * miss happens outside of it, so two threads may format the same date once
+ * each.
+ */
+public class TimeCache implements Function<LocalDate, String> {
+    public static final int DEFAULT_SIZE = 4096;
+
+    final Function<LocalDate, String> format;
+    final Map<LocalDate, String> cache;
+
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+
+    public TimeCache() {
+        this(DEFAULT_SIZE, Solution.time());
+    }
+
+    public TimeCache(int maxSize, Function<LocalDate, String> format) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+
+        this.format = format;
+        this.cache = new LinkedHashMap<LocalDate, String>(16, 0.75f, true) { // Access order, so LRU
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, String> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String apply(LocalDate d) {
+        String s;
+        synchronized (cache) {
+            s = cache.get(d);
+        }
+
+        if (s != null) {
+            hits.increment();
+            return s;
+        }
+
+        misses.increment();
+        s = format.apply(d);
+
+        synchronized (cache) {
+            cache.put(d, s);
+        }
+        return s;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TimeCache[size=" + size() + ", hits=" + hits() + ", misses=" + misses() + ", evictions="
+                + evictions() + "]";
+    }
+}
@@ -0,0 +1,242 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collector;
+
+/**
+ * The K largest (top) or smallest (bottom) elements without sorting the whole
+ * input like Solution.sort2 or bubbleSort would.
+ * 
+ * - Collections: a heap of at most K elements, O(n log K).
+ * - Primitive arrays: quickselect on a copy, O(n) on average, then only the K
+ * selected values are sorted.
+ * - Collectors: one heap per stream segment, merged when a parallel stream
+ * combines its segments.
+ * 
+ * top returns the elements from HIGHEST to LOWEST according to the comparator,
+ * like sort2, and bottom from LOWEST to HIGHEST. Which of several equal
+ * elements are kept at the boundary is unspecified.
+ */
+public class TopK {
+    // Keeps the K largest elements offered so far.
+    static class Heap<T> {
+        final PriorityQueue<T> heap; // Smallest kept element at the head
+        final Comparator<? super T> comp;
+        final int k;
+
+        Heap(int k, Comparator<? super T> comp) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k < 0");
+            }
+
+            this.heap = new PriorityQueue<T>(Math.max(1, Math.min(k, 1 << 16)), comp);
+            this.comp = comp;
+            this.k = k;
+        }
+
+        void add(T x) {
+            if (heap.size() < k) {
+                heap.add(x);
+            } else if (k > 0 && comp.compare(x, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(x);
+            }
+        }
+
+        Heap<T> merge(Heap<T> other) {
+            for (var x : other.heap) {
+                add(x);
+            }
+            return this;
+        }
+
+        List<T> toList() {
+            var l = new ArrayList<T>(heap);
+            l.sort(Collections.reverseOrder(comp));
+            return l;
+        }
+    }
+
+    public static <T> List<T> top(Collection<? extends T> in, int k, Comparator<? super T> comp) {
+        var heap = new Heap<T>(k, comp);
+        for (var x : in) {
+            heap.add(x);
+        }
+        return heap.toList();
+    }
+
+    public static <T> List<T> bottom(Collection<? extends T> in, int k, Comparator<? super T> comp) {
+        return top(in, k, Collections.reverseOrder(comp));
+    }
+
+    public static <T> List<T> top(Collection<T> in, int k, Comparator<? super T> comp, Execution exec) {
+        return exec.run(in, s -> s.collect(top(k, comp)));
+    }
+
+    public static <T> Collector<T, ?, List<T>> top(int k, Comparator<? super T> comp) {
+        return Collector.of(() -> new Heap<T>(k, comp), Heap::add, Heap::merge, Heap::toList,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T> Collector<T, ?, List<T>> bottom(int k, Comparator<? super T> comp) {
+        return top(k, Collections.reverseOrder(comp));
+    }
+
+    // Primitive arrays -------------------------------
+
+    public static int[] top(int[] arr, int k) {
+        k = checkK(k, arr.length);
+        var a = arr.clone();
+        if (k > 0) {
+            select(a, a.length - k);
+        }
+
+        var out = Arrays.copyOfRange(a, a.length - k, a.length);
+        Arrays.sort(out);
+        reverse(out);
+        return out;
+    }
+
+    public static int[] bottom(int[] arr, int k) {
+        k = checkK(k, arr.length);
+        var a = arr.clone();
+        if (k > 0) {
+            select(a, k - 1);
+        }
+
+        var out = Arrays.copyOf(a, k);
+        Arrays.sort(out);
+        return out;
+    }
+
+    public static double[] top(double[] arr, int k) {
+        k = checkK(k, arr.length);
+        var a = arr.clone();
+        if (k > 0) {
+            select(a, a.length - k);
+        }
+
+        var out = Arrays.copyOfRange(a, a.length - k, a.length);
+        Arrays.sort(out);
+        reverse(out);
+        return out;
+    }
+
+    public static double[] bottom(double[] arr, int k) {
+        k = checkK(k, arr.length);
+        var a = arr.clone();
+        if (k > 0) {
+            select(a, k - 1);
+        }
+
+        var out = Arrays.copyOf(a, k);
+        Arrays.sort(out);
+        return out;
+    }
+
+    static int checkK(int k, int length) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k < 0");
+        }
+        return Math.min(k, length);
+    }
+
+    // Quickselect with a three way partition, so runs of equal values cannot make it
+    // quadratic. Afterwards a[n] holds the value it would have in the sorted array,
+    // with nothing larger before and nothing smaller after it.
+    static void select(int[] a, int n) {
+        int lo = 0;
+        int hi = a.length - 1;
+        var rnd = ThreadLocalRandom.current();
+
+        while (lo < hi) {
+            int pivot = a[lo + rnd.nextInt(hi - lo + 1)];
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+
+            // a[lo, lt) < pivot, a[lt, i) == pivot, a(gt, hi] > pivot
+            while (i <= gt) {
+                if (a[i] < pivot) {
+                    swap(a, lt++, i++);
+                } else if (a[i] > pivot) {
+                    swap(a, i, gt--);
+                } else {
+                    ++i;
+                }
+            }
+
+            if (n < lt) {
+                hi = lt - 1;
+            } else if (n > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    // Same as above in the order of Double.compare.
+    static void select(double[] a, int n) {
+        int lo = 0;
+        int hi = a.length - 1;
+        var rnd = ThreadLocalRandom.current();
+
+        while (lo < hi) {
+            double pivot = a[lo + rnd.nextInt(hi - lo + 1)];
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+
+            while (i <= gt) {
+                int c = Double.compare(a[i], pivot);
+                if (c < 0) {
+                    swap(a, lt++, i++);
+                } else if (c > 0) {
+                    swap(a, i, gt--);
+                } else {
+                    ++i;
+                }
+            }
+
+            if (n < lt) {
+                hi = lt - 1;
+            } else if (n > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    static void reverse(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; ++i, --j) {
+            swap(a, i, j);
+        }
+    }
+
+    static void reverse(double[] a) {
+        for (int i = 0, j = a.length - 1; i < j; ++i, --j) {
+            swap(a, i, j);
+        }
+    }
+
+    static void swap(int[] a, int i, int j) {
+        var tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+
+    static void swap(double[] a, int i, int j) {
+        var tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+}
@@ -0,0 +1,106 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for Accumulators.
+ */
+public class AccumulatorsTest {
+    @Test
+    public void testIncremental() {
+        var rnd = new Random(9);
+        var app = new App();
+
+        var ints = new ArrayList<Integer>();
+        var shorts = new ArrayList<Short>();
+        var longs = new ArrayList<Long>();
+        var rects = new ArrayList<App.Rectangle>();
+
+        var sum = new Accumulators.Sum();
+        var max = new Accumulators.Max();
+        var product = new Accumulators.Product();
+        var area = new Accumulators.AverageArea();
+
+        for (int i = 0; i < 300; ++i) {
+            int x = rnd.nextInt();
+            short y = (short) rnd.nextInt();
+            long z = rnd.nextLong() | 1;
+            var r = app.new Rectangle(rnd.nextInt(1 << 20), rnd.nextInt(1 << 20));
+
+            ints.add(x);
+            shorts.add(y);
+            longs.add(z);
+            rects.add(r);
+
+            sum.add(x);
+            max.add(y);
+            product.add(z);
+            area.add(r);
+
+            Assert.assertEquals(Solution.sum(ints).intValue(), sum.get());
+            Assert.assertEquals(Solution.sumWide(ints), sum.getWide());
+            Assert.assertEquals(Solution.max(shorts).shortValue(), max.get());
+            Assert.assertEquals(Solution.multiply(longs).longValue(), product.get());
+            Assert.assertEquals(Solution.averageArea(rects).intValue(), area.get());
+            Assert.assertEquals(Solution.averageAreaWide(rects), area.getWide());
+        }
+    }
+
+    @Test
+    public void testOverflowingArea() {
+        var app = new App();
+        var rects = new ArrayList<App.Rectangle>();
+        var area = new Accumulators.AverageArea();
+
+        for (int i = 0; i < 10; ++i) {
+            var r = app.new Rectangle(Integer.MAX_VALUE, Integer.MAX_VALUE - i);
+            rects.add(r);
+            area.add(r);
+        }
+
+        Assert.assertEquals(Solution.averageArea(rects).intValue(), area.get());
+        Assert.assertEquals(Solution.averageAreaWide(rects), area.getWide());
+    }
+
+    @Test
+    public void testCollectors() {
+        var rnd = new Random(10);
+        var app = new App();
+
+        var ints = new ArrayList<Integer>();
+        var shorts = new ArrayList<Short>();
+        var longs = new ArrayList<Long>();
+        var rects = new ArrayList<App.Rectangle>();
+        for (int i = 0; i < 100000; ++i) {
+            ints.add(rnd.nextInt());
+            shorts.add((short) rnd.nextInt());
+            longs.add(rnd.nextLong() | 1);
+            rects.add(app.new Rectangle(rnd.nextInt(1000), rnd.nextInt(1000)));
+        }
+
+        Assert.assertEquals(Solution.sum(ints), ints.parallelStream().collect(Accumulators.summing()));
+        Assert.assertEquals(Solution.max(shorts), shorts.parallelStream().collect(Accumulators.maximum()));
+        Assert.assertEquals(Solution.multiply(longs), longs.parallelStream().collect(Accumulators.multiplying()));
+        Assert.assertEquals(Solution.averageArea(rects), rects.parallelStream().collect(Accumulators.averagingArea()));
+    }
+
+    @Test
+    public void testEmpty() {
+        Assert.assertEquals(0, new Accumulators.Sum().get());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Accumulators.Max().get());
+        Assert.assertThrows(NoSuchElementException.class, () -> new Accumulators.Product().get());
+        Assert.assertThrows(ArithmeticException.class, () -> new Accumulators.AverageArea().get());
+
+        // Merging an empty partial result changes nothing.
+        var product = new Accumulators.Product().add(3).merge(new Accumulators.Product());
+        Assert.assertEquals(3, product.get());
+        Assert.assertEquals(Short.valueOf((short) -4),
+                Arrays.asList((short) -4).stream().collect(Accumulators.maximum()));
+    }
+}
@@ -0,0 +1,132 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for ConcurrentAccumulators, many threads against Solution over all
+ * the values added.
+ */
+public class ConcurrentAccumulatorsTest {
+    static final int THREADS = 8;
+
+    // Runs "add" for every index of [0, n) spread over THREADS threads.
+    static void concurrently(int n, IntConsumer add) throws InterruptedException {
+        var pool = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; ++t) {
+            int from = t * n / THREADS, to = (t + 1) * n / THREADS;
+            pool.execute(() -> {
+                for (int i = from; i < to; ++i) {
+                    add.accept(i);
+                }
+            });
+        }
+        pool.shutdown();
+        Assert.assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void testSumMaxMin() throws InterruptedException {
+        var rnd = new Random(24);
+        var ints = new ArrayList<Integer>();
+        var shorts = new ArrayList<Short>();
+        for (int i = 0; i < 100000; ++i) {
+            ints.add(rnd.nextInt());
+            shorts.add((short) rnd.nextInt());
+        }
+
+        var sum = new ConcurrentAccumulators.Sum();
+        var max = new ConcurrentAccumulators.Max();
+        var min = new ConcurrentAccumulators.Min();
+        concurrently(ints.size(), i -> {
+            sum.add(ints.get(i));
+            max.add(shorts.get(i));
+            min.add(shorts.get(i));
+        });
+
+        Assert.assertEquals(Solution.sum(ints).intValue(), sum.get());
+        Assert.assertEquals(Solution.sumWide(ints), sum.getWide());
+        Assert.assertEquals(Solution.max(shorts).shortValue(), max.get());
+        Assert.assertEquals(Collections.min(shorts).shortValue(), min.get());
+
+        sum.reset();
+        max.reset();
+        min.reset();
+        Assert.assertEquals(0, sum.get());
+        Assert.assertThrows(IllegalArgumentException.class, () -> max.get());
+        Assert.assertThrows(IllegalArgumentException.class, () -> min.get());
+    }
+
+    @Test
+    public void testProduct() throws InterruptedException {
+        var rnd = new Random(25);
+        var small = new ArrayList<Long>();
+        for (int i = 0; i < 10000; ++i) {
+            small.add(rnd.nextInt(10) < 8 ? 1l : -1l);
+        }
+        small.set(1234, 7l);
+        small.set(4321, -3l);
+
+        var product = new ConcurrentAccumulators.Product();
+        concurrently(small.size(), i -> product.add(small.get(i)));
+        Assert.assertEquals(Solution.multiply(small).longValue(), product.get());
+        Assert.assertEquals(Solution.multiplyExact(small), product.get());
+        Assert.assertFalse(product.overflowed());
+
+        // 3^64 overflows, whichever cells the values end up in.
+        var large = new ArrayList<Long>(Collections.nCopies(64, 3l));
+        product.reset();
+        concurrently(large.size(), i -> product.add(large.get(i)));
+        Assert.assertEquals(Solution.multiply(large).longValue(), product.get());
+        Assert.assertTrue(product.overflowed());
+
+        // A 0 makes the exact product fit again.
+        product.add(0);
+        Assert.assertEquals(0, product.get());
+        Assert.assertFalse(product.overflowed());
+
+        product.reset();
+        Assert.assertThrows(java.util.NoSuchElementException.class, () -> product.get());
+    }
+
+    @Test
+    public void testProductEdges() {
+        var product = new ConcurrentAccumulators.Product();
+        for (var x : List.of(Long.MIN_VALUE, 1l)) {
+            product.add(x);
+        }
+        Assert.assertEquals(Long.MIN_VALUE, product.get());
+        Assert.assertFalse(product.overflowed());
+
+        product.add(-1);
+        Assert.assertTrue(product.overflowed()); // -Long.MIN_VALUE does not fit
+    }
+
+    @Test
+    public void testDistinct() throws InterruptedException {
+        var rnd = new Random(26);
+        var ints = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; ++i) {
+            ints.add(rnd.nextInt(20000));
+        }
+
+        var distinct = new ConcurrentAccumulators.Distinct();
+        concurrently(ints.size(), i -> distinct.add(ints.get(i)));
+        Assert.assertEquals(Solution.duplicates2(ints).size(), distinct.get());
+
+        distinct.reset();
+        Assert.assertEquals(0, distinct.get());
+        distinct.add(0);
+        distinct.add(0);
+        distinct.add(-7);
+        Assert.assertEquals(2, distinct.get());
+    }
+}
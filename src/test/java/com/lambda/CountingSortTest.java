@@ -0,0 +1,94 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for CountingSort and Solution.sort.
+ */
+public class CountingSortTest {
+    static List<Byte> bytes(int n) {
+        var rnd = new Random(14);
+        var l = new ArrayList<Byte>();
+        for (int i = 0; i < n; ++i) {
+            l.add((byte) rnd.nextInt());
+        }
+        return l;
+    }
+
+    static <T> void assertSorted(List<T> list, Comparator<? super T> comp) {
+        var expected = new ArrayList<T>(list);
+        expected.sort(comp);
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void testBytes() {
+        var comparators = new ArrayList<Comparator<Byte>>();
+        comparators.add(Byte::compare);
+        comparators.add((x, y) -> y - x);
+        comparators.add(Comparator.naturalOrder());
+        comparators.add(Comparator.reverseOrder());
+        comparators.add((x, y) -> Integer.compare(x & 0xFF, y & 0xFF)); // Unsigned, must fall back
+        comparators.add((x, y) -> Integer.compare(x % 16, y % 16)); // Not a total order
+
+        for (var comp : comparators) {
+            for (var n : new int[] { 0, 10, 5000 }) {
+                var l = bytes(n);
+                var expected = new ArrayList<Byte>(l);
+                expected.sort(comp);
+
+                Assert.assertEquals(expected, Solution.sort(l, comp));
+                Assert.assertEquals(expected, Solution.sort(new LinkedList<Byte>(bytes(n)), comp));
+            }
+        }
+    }
+
+    @Test
+    public void testShortsAndChars() {
+        var rnd = new Random(15);
+        var shorts = new ArrayList<Short>();
+        var chars = new ArrayList<Character>();
+        for (int i = 0; i < 300000; ++i) {
+            shorts.add((short) rnd.nextInt());
+            chars.add((char) rnd.nextInt());
+        }
+
+        var reversed = new ArrayList<Short>(shorts);
+        Comparator<Short> desc = (x, y) -> Short.compare(y, x);
+
+        assertSorted(CountingSort.sortShorts(shorts, Short::compare), Comparator.naturalOrder());
+        assertSorted(CountingSort.sortShorts(reversed, desc), desc);
+        assertSorted(CountingSort.sortChars(chars, Character::compare), Comparator.naturalOrder());
+    }
+
+    @Test
+    public void testOrderProbe() {
+        Assert.assertEquals(1, CountingSort.order(Byte::compare, x -> (byte) x, Byte.MIN_VALUE, Byte.MAX_VALUE));
+        Assert.assertEquals(-1,
+                CountingSort.<Byte>order((x, y) -> y - x, x -> (byte) x, Byte.MIN_VALUE, Byte.MAX_VALUE));
+        Assert.assertEquals(0,
+                CountingSort.<Byte>order((x, y) -> 0, x -> (byte) x, Byte.MIN_VALUE, Byte.MAX_VALUE));
+    }
+
+    @Test
+    public void testNulls() {
+        var rnd = new Random(16);
+        var list = new ArrayList<Byte>();
+        for (int i = 0; i < 4096; ++i) {
+            list.add(i % 100 == 0 ? null : (byte) rnd.nextInt());
+        }
+
+        Comparator<Byte> comp = Comparator.nullsFirst(Byte::compare);
+        var expected = new ArrayList<Byte>(list);
+        expected.sort(comp);
+
+        Assert.assertEquals(expected, Solution.sort(list, comp));
+    }
+}
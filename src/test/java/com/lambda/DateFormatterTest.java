@@ -0,0 +1,75 @@
+package com.lambda;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for DateFormatter against the String.format reference.
+ */
+public class DateFormatterTest {
+    static String reference(LocalDate d) {
+        return String.format("%d-%d-%d", d.getYear(), d.getMonthValue(), d.getDayOfMonth());
+    }
+
+    static LocalDate[] dates() {
+        var rnd = new Random(12);
+        var l = new ArrayList<LocalDate>();
+        l.add(LocalDate.MIN);
+        l.add(LocalDate.MAX);
+        l.add(LocalDate.of(0, 1, 1));
+        l.add(LocalDate.of(-1, 12, 31));
+        l.add(LocalDate.of(2022, 3, 11));
+        for (int i = 0; i < 10000; ++i) {
+            l.add(LocalDate.ofEpochDay(rnd.nextInt(2000000) - 1000000));
+        }
+        return l.toArray(new LocalDate[0]);
+    }
+
+    @Test
+    public void testSingle() {
+        Assert.assertEquals("2022-3-11", Solution.time().apply(LocalDate.of(2022, 3, 11)));
+
+        var buf = new char[DateFormatter.MAX_LENGTH];
+        var bytes = ByteBuffer.allocate(DateFormatter.MAX_LENGTH);
+        for (var d : dates()) {
+            var expected = reference(d);
+
+            Assert.assertEquals(expected, DateFormatter.format(d));
+            Assert.assertEquals(expected, DateFormatter.append(new StringBuilder(), d).toString());
+            Assert.assertEquals(expected, new String(buf, 0, DateFormatter.format(d, buf, 0)));
+
+            bytes.clear();
+            DateFormatter.format(d, bytes);
+            Assert.assertEquals(expected, new String(bytes.array(), 0, bytes.position(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        var dates = dates();
+        var expected = new StringBuilder();
+        for (var d : dates) {
+            expected.append(reference(d)).append('\n');
+        }
+
+        var buf = new char[dates.length * (DateFormatter.MAX_LENGTH + 1)];
+        var bytes = ByteBuffer.allocate(buf.length);
+        DateFormatter.format(dates, bytes, '\n');
+
+        Assert.assertEquals(expected.toString(), DateFormatter.append(new StringBuilder(), dates, '\n').toString());
+        Assert.assertEquals(expected.toString(), new String(buf, 0, DateFormatter.format(dates, buf, 0, '\n')));
+        Assert.assertEquals(expected.toString(),
+                new String(bytes.array(), 0, bytes.position(), StandardCharsets.US_ASCII));
+
+        var strings = DateFormatter.format(dates);
+        for (int i = 0; i < dates.length; ++i) {
+            Assert.assertEquals(reference(dates[i]), strings[i]);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.lambda;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for DigitValidator against Solution.checkString.
+ */
+public class DigitValidatorTest {
+    static boolean reference(String s) {
+        return Solution.checkString(s, c -> '0' <= c && c <= '9');
+    }
+
+    static String[] strings() {
+        var rnd = new Random(13);
+        var l = new ArrayList<String>();
+        l.add("");
+        l.add("0123456789");
+        l.add("/:"); // Right below '0' and above '9'
+        l.add("1234567İ"); // Low byte of U+0130 is '0'
+
+        for (int i = 0; i < 5000; ++i) {
+            var sb = new StringBuilder();
+            int len = rnd.nextInt(40);
+            for (int j = 0; j < len; ++j) {
+                sb.append((char) ('0' + rnd.nextInt(10)));
+            }
+            if (rnd.nextBoolean() && len > 0) {
+                sb.setCharAt(rnd.nextInt(len), (char) rnd.nextInt(256)); // May still be a digit
+            }
+            l.add(sb.toString());
+        }
+        return l.toArray(new String[0]);
+    }
+
+    @Test
+    public void testSingle() {
+        for (var s : strings()) {
+            var expected = reference(s);
+
+            Assert.assertEquals(s, expected, DigitValidator.isDigits(s));
+            Assert.assertEquals(s, expected, DigitValidator.check(s, DigitValidator.DIGIT));
+
+            if (s.chars().allMatch(c -> c < 256)) {
+                var bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+                Assert.assertEquals(s, expected, DigitValidator.isDigits(bytes, 0, bytes.length));
+            }
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        var strings = strings();
+        var lines = new StringBuilder();
+        for (var s : strings) {
+            lines.append(s.replace('\n', 'x').replace('İ', 'x')).append('\n');
+        }
+
+        var fromArray = DigitValidator.isDigits(strings);
+        var fromPredicate = DigitValidator.check(strings, DigitValidator.DIGIT);
+        var fromLines = DigitValidator.isDigitsLines(
+                ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.ISO_8859_1)));
+
+        for (int i = 0; i < strings.length; ++i) {
+            var expected = reference(strings[i]);
+            Assert.assertEquals(expected, fromArray.get(i));
+            Assert.assertEquals(expected, fromPredicate.get(i));
+            Assert.assertEquals(reference(strings[i].replace('İ', 'x')), fromLines.get(i));
+        }
+        Assert.assertFalse(fromLines.get(strings.length));
+    }
+
+    @Test
+    public void testLastLineWithoutNewline() {
+        var buf = ByteBuffer.wrap("12\nab\n\n345".getBytes(StandardCharsets.US_ASCII));
+        var bits = DigitValidator.isDigitsLines(buf);
+
+        Assert.assertTrue(bits.get(0));
+        Assert.assertFalse(bits.get(1));
+        Assert.assertTrue(bits.get(2));
+        Assert.assertTrue(bits.get(3));
+        Assert.assertEquals(0, buf.position());
+    }
+}
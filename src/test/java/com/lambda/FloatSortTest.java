@@ -0,0 +1,107 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for FloatSort and Solution.sort2.
+ */
+public class FloatSortTest {
+    static final float[] SPECIAL = { Float.NaN, Float.intBitsToFloat(0xFFC00001), Float.NEGATIVE_INFINITY,
+            Float.POSITIVE_INFINITY, -0f, 0f, Float.MIN_VALUE, -Float.MIN_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE,
+            Float.MIN_NORMAL, 1f, -1f };
+
+    static List<Float> floats(int n) {
+        var rnd = new Random(16);
+        var l = new ArrayList<Float>();
+        for (int i = 0; i < n; ++i) {
+            switch (rnd.nextInt(3)) {
+            case 0:
+                l.add(Float.intBitsToFloat(rnd.nextInt())); // Any bit pattern, including NaNs
+                break;
+            case 1:
+                l.add(SPECIAL[rnd.nextInt(SPECIAL.length)]);
+                break;
+            default:
+                l.add((float) rnd.nextGaussian());
+            }
+        }
+        return l;
+    }
+
+    @Test
+    public void testKeyOrder() {
+        var sorted = SPECIAL.clone();
+        Arrays.sort(sorted);
+
+        for (int i = 1; i < sorted.length; ++i) {
+            int a = FloatSort.key(sorted[i - 1]);
+            int b = FloatSort.key(sorted[i]);
+            Assert.assertEquals(Integer.signum(Float.compare(sorted[i - 1], sorted[i])),
+                    Integer.signum(Integer.compareUnsigned(a, b)));
+            Assert.assertEquals(0, Float.compare(sorted[i], FloatSort.value(b)));
+        }
+    }
+
+    @Test
+    public void testSort2() {
+        for (var n : new int[] { 0, 10, 100000 }) {
+            var natural = floats(n);
+            var reversed = floats(n);
+            var lambda = floats(n);
+
+            var descending = new ArrayList<Float>(natural);
+            descending.sort(Comparator.reverseOrder());
+            var ascending = new ArrayList<Float>(natural);
+            ascending.sort(Comparator.naturalOrder());
+
+            Assert.assertEquals(descending, Solution.sort2(natural, FloatSort.NATURAL));
+            Assert.assertEquals(ascending, Solution.sort2(reversed, FloatSort.REVERSED));
+            Assert.assertEquals(descending, Solution.sort2(lambda, Float::compare));
+        }
+    }
+
+    @Test
+    public void testMinValueComparator() {
+        // -compare(x, y) turns Integer.MIN_VALUE into itself instead of a positive value.
+        Comparator<Float> comp = (x, y) -> x < y ? Integer.MIN_VALUE : x > y ? 1 : 0;
+        var l = new ArrayList<Float>(Arrays.asList(1f, 3f, 2f));
+
+        Assert.assertEquals(Arrays.asList(3f, 2f, 1f), Solution.sort2(l, comp));
+    }
+
+    @Test
+    public void testArray() {
+        var arr = new float[50000];
+        var l = floats(arr.length);
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = l.get(i);
+        }
+
+        var expected = arr.clone();
+        Arrays.sort(expected);
+
+        FloatSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr, 0);
+
+        FloatSort.sortDescending(arr);
+        for (int i = 0; i < arr.length; ++i) {
+            Assert.assertEquals(0, Float.compare(expected[arr.length - 1 - i], arr[i]));
+        }
+
+        var empty = new float[0];
+        FloatSort.sort(empty);
+        FloatSort.sortDescending(empty);
+        Assert.assertEquals(0, empty.length);
+
+        var one = new float[] { 1.5f };
+        FloatSort.sort(one);
+        Assert.assertArrayEquals(new float[] { 1.5f }, one, 0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.lambda;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for IntHashSet and LongHashSet.
+ */
+public class HashSetTest {
+    @Test
+    public void testLongHashSet() {
+        var rnd = new Random(1);
+        var set = new LongHashSet(); // Starts small so that it has to grow
+        var reference = new HashSet<Long>();
+
+        for (int i = 0; i < 200000; ++i) {
+            long x = i % 3 == 0 ? rnd.nextInt(1000) : rnd.nextLong();
+            Assert.assertEquals(reference.add(x), set.add(x));
+        }
+
+        Assert.assertEquals(reference.size(), set.size());
+        Assert.assertTrue(set.contains(0) == reference.contains(0l));
+        for (var x : reference) {
+            Assert.assertTrue(set.contains(x));
+        }
+        Assert.assertEquals(reference.size(), set.toArray().length);
+    }
+
+    @Test
+    public void testIntHashSet() {
+        var set = new IntHashSet(4);
+
+        Assert.assertTrue(set.add(0));
+        Assert.assertFalse(set.add(0));
+        Assert.assertTrue(set.add(-1));
+        Assert.assertTrue(set.add(Integer.MIN_VALUE));
+        for (int i = 1; i <= 1000; ++i) {
+            set.add(i * 16); // Same low bits
+        }
+
+        Assert.assertEquals(1003, set.size());
+        Assert.assertTrue(set.contains(16000));
+        Assert.assertFalse(set.contains(16001));
+        Assert.assertTrue(set.contains(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void testFewDistinct() {
+        var arr = new long[1_000_000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = i % 16;
+        }
+
+        var out = Solution.duplicates(arr);
+        java.util.Arrays.sort(out);
+        Assert.assertArrayEquals(java.util.stream.LongStream.range(0, 16).toArray(), out);
+    }
+}
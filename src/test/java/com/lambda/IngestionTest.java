@@ -0,0 +1,196 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lambda.ShortFilter.ShortSupplier;
+
+/**
+ * Unit test for Ingestion with slow simulated generators.
+ */
+public class IngestionTest {
+    // Generates "values" random non zero values, then 0. Sleeps 1ms every
+    // "every" values like a blocking read would.
+    static ShortSupplier slow(long seed, int values, int every) {
+        var rnd = new Random(seed);
+        var n = new int[1];
+        return () -> {
+            if (n[0] == values) {
+                return 0;
+            }
+            if (++n[0] % every == 0) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            var x = (short) rnd.nextInt();
+            return x == 0 ? 1 : x;
+        };
+    }
+
+    static ArrayList<Short> expected(long seed, int values) {
+        var gen = slow(seed, values, Integer.MAX_VALUE);
+        return new ArrayList<Short>(Solution.filter(() -> gen.getAsShort()));
+    }
+
+    @Test
+    public void testMatchesSolution() {
+        try (var ingestion = new Ingestion()) {
+            var source = ingestion.start(slow(1, 1000, 50));
+            var out = new ArrayList<Short>();
+            source.forEach(out::add);
+
+            Assert.assertEquals(expected(1, 1000), out);
+            Assert.assertEquals(Runtime.version().feature() >= 21, Ingestion.hasVirtualThreads());
+            Assert.assertTrue(source.isDone());
+            Assert.assertEquals(0, source.take());
+        }
+    }
+
+    @Test
+    public void testManySources() {
+        int sources = 2000;
+        try (var ingestion = new Ingestion()) {
+            var started = new ArrayList<Ingestion.Source>();
+            for (int i = 0; i < sources; ++i) {
+                started.add(ingestion.start(slow(i, 200, 25), ShortFilter.ODD, Ingestion.Stop.NEVER, 16));
+            }
+
+            // One consumer thread reads all the sources round robin.
+            var outs = new ArrayList<ArrayList<Short>>();
+            for (int i = 0; i < sources; ++i) {
+                outs.add(new ArrayList<Short>());
+            }
+            for (boolean pending = true; pending;) {
+                pending = false;
+                for (int i = 0; i < sources; ++i) {
+                    var s = started.get(i);
+                    for (var x = s.poll(); x != 0; x = s.poll()) {
+                        outs.get(i).add(x);
+                    }
+                    pending |= !s.isDone() || s.size() > 0;
+                }
+                Thread.yield();
+            }
+
+            for (int i = 0; i < sources; i += 97) {
+                Assert.assertEquals(expected(i, 200), outs.get(i));
+            }
+            Assert.assertEquals(0, ingestion.running());
+        }
+    }
+
+    @Test
+    public void testBackpressure() {
+        try (var ingestion = new Ingestion()) {
+            var pulled = new AtomicInteger();
+            var source = ingestion.start(() -> {
+                pulled.incrementAndGet();
+                return 1;
+            }, ShortFilter.ODD, Ingestion.Stop.limit(10000), 8);
+
+            Assert.assertEquals(8, source.capacity());
+            for (int i = 0; i < 100; ++i) {
+                Thread.yield();
+                Assert.assertTrue(source.size() <= 8);
+            }
+            // At most the ring plus the value waiting to be put.
+            Assert.assertTrue(pulled.get() <= 9);
+
+            Assert.assertEquals(10000, source.forEach(x -> {
+            }));
+            Assert.assertEquals(10000, pulled.get());
+        }
+    }
+
+    @Test
+    public void testStops() {
+        try (var ingestion = new Ingestion()) {
+            var values = new short[] { 3, 5, 4, 7, 9, 11 };
+            var n = new int[1];
+            var source = ingestion.start(() -> values[n[0]++], ShortFilter.ODD, Ingestion.Stop.at((short) 7), 4);
+
+            var out = new ArrayList<Short>();
+            source.forEach(out::add);
+            Assert.assertEquals(java.util.List.of((short) 3, (short) 5, (short) 7), out);
+
+            var endless = ingestion.start(() -> 1, ShortFilter.ODD,
+                    Ingestion.Stop.deadline(System.nanoTime() + 20_000_000), 64);
+            Assert.assertTrue(endless.forEach(x -> {
+            }) > 0);
+            Assert.assertTrue(endless.isDone());
+        }
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        try (var ingestion = new Ingestion()) {
+            // Blocks "forever" after a few values.
+            var n = new int[1];
+            var source = ingestion.start(() -> {
+                if (++n[0] > 3) {
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException e) {
+                        return 0;
+                    }
+                }
+                return 1;
+            });
+
+            Assert.assertEquals(1, source.take());
+            Assert.assertEquals(1, source.take());
+            Assert.assertEquals(1, source.take());
+
+            source.cancel();
+            Assert.assertEquals(0, source.take());
+            Assert.assertTrue(source.isCancelled());
+            Assert.assertNull(source.failure());
+        }
+    }
+
+    @Test
+    public void testInterrupt() {
+        try (var ingestion = new Ingestion()) {
+            // Never produces anything, so take() has to wait.
+            var source = ingestion.start(() -> {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    return 0;
+                }
+                return 1;
+            });
+
+            Thread.currentThread().interrupt();
+            var e = Assert.assertThrows(CompletionException.class, () -> source.take());
+            Assert.assertTrue(e.getCause() instanceof InterruptedException);
+            Assert.assertTrue(Thread.interrupted()); // Kept, and cleared here
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        try (var ingestion = new Ingestion()) {
+            var n = new int[1];
+            var source = ingestion.start(() -> {
+                if (++n[0] > 2) {
+                    throw new IllegalStateException("read failed");
+                }
+                return 1;
+            });
+
+            Assert.assertEquals(1, source.take());
+            Assert.assertEquals(1, source.take());
+            var e = Assert.assertThrows(CompletionException.class, () -> source.take());
+            Assert.assertEquals("read failed", e.getCause().getMessage());
+        }
+    }
+}
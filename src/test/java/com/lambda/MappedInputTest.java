@@ -0,0 +1,121 @@
+package com.lambda;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for MappedInput over generated temp files.
+ */
+public class MappedInputTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    Path file(Writer w) throws IOException {
+        var f = folder.newFile().toPath();
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(f)))) {
+            w.write(out);
+        }
+        return f;
+    }
+
+    // Sequential with one chunk, and parallel with many small chunks.
+    static List<MappedInput> inputs(Path f) {
+        return List.of(new MappedInput(f),
+                new MappedInput(f, ByteOrder.BIG_ENDIAN, Execution.commonPool(0), 64));
+    }
+
+    @Test
+    public void testAggregations() throws IOException {
+        var rnd = new Random(4);
+        var ints = new ArrayList<Integer>();
+        var shorts = new ArrayList<Short>();
+        var longs = new ArrayList<Long>();
+        var rects = new ArrayList<App.Rectangle>();
+        var app = new App();
+
+        for (int i = 0; i < 10001; ++i) {
+            ints.add(rnd.nextInt());
+            shorts.add((short) rnd.nextInt());
+            longs.add(rnd.nextLong() | 1); // Odd, so the product does not collapse to 0
+            rects.add(app.new Rectangle(rnd.nextInt(1000), rnd.nextInt(1000)));
+        }
+
+        var intFile = file(out -> {
+            for (var x : ints) {
+                out.writeInt(x);
+            }
+        });
+        var shortFile = file(out -> {
+            for (var x : shorts) {
+                out.writeShort(x);
+            }
+        });
+        var longFile = file(out -> {
+            for (var x : longs) {
+                out.writeLong(x);
+            }
+        });
+        var rectFile = file(out -> {
+            for (var r : rects) {
+                out.writeInt(r.getWidth());
+                out.writeInt(r.getHeight());
+            }
+        });
+
+        for (var in : inputs(intFile)) {
+            Assert.assertEquals(Solution.sum(ints).intValue(), in.sum());
+        }
+        for (var in : inputs(shortFile)) {
+            Assert.assertEquals(Solution.max(shorts).shortValue(), in.max());
+        }
+        for (var in : inputs(longFile)) {
+            Assert.assertEquals(Solution.multiply(longs).longValue(), in.multiply());
+        }
+        for (var in : inputs(rectFile)) {
+            Assert.assertEquals(Solution.averageArea(rects).intValue(), in.averageArea());
+        }
+    }
+
+    @Test
+    public void testLittleEndian() throws IOException {
+        var f = file(out -> {
+            out.writeInt(Integer.reverseBytes(7));
+            out.writeInt(Integer.reverseBytes(-2));
+        });
+
+        Assert.assertEquals(5, new MappedInput(f, ByteOrder.LITTLE_ENDIAN, Execution.SEQUENTIAL).sum());
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        var in = new MappedInput(file(out -> {
+        }));
+
+        Assert.assertEquals(0, in.sum());
+        Assert.assertThrows(IllegalArgumentException.class, () -> in.max());
+        Assert.assertThrows(NoSuchElementException.class, () -> in.multiply());
+        Assert.assertThrows(ArithmeticException.class, () -> in.averageArea());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncated() throws IOException {
+        new MappedInput(file(out -> out.writeShort(1))).sum();
+    }
+}
@@ -0,0 +1,109 @@
+package com.lambda;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for Metrics and InstrumentedSolution.
+ */
+public class MetricsTest {
+    @After
+    public void tearDown() {
+        Metrics.setEnabled(false);
+        Metrics.reset();
+    }
+
+    @Test
+    public void testDisabled() {
+        Metrics.setEnabled(false);
+        Metrics.reset();
+
+        Assert.assertEquals(6, InstrumentedSolution.sum(Arrays.asList(1, 2, 3)).intValue());
+        Assert.assertTrue(Metrics.STATS.isEmpty());
+    }
+
+    @Test
+    public void testRecording() {
+        Metrics.setEnabled(true);
+        Metrics.reset();
+
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i % 50);
+        }
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(Solution.sum(list), InstrumentedSolution.sum(list));
+            Assert.assertEquals(Solution.duplicates2(list), InstrumentedSolution.duplicates2(list));
+        }
+        Assert.assertTrue(InstrumentedSolution.checkString("12345", Solution.digit()));
+
+        var sum = Metrics.stats("sum");
+        Assert.assertEquals(100, sum.calls());
+        Assert.assertEquals(1023, sum.sizes().percentile(50)); // 1000 is in [512, 1024)
+        Assert.assertEquals(1000, sum.sizes().mean(), 0);
+        Assert.assertTrue(sum.nanos().percentile(99) > 0);
+        Assert.assertEquals(1, Metrics.stats("checkString").calls());
+
+        var report = Metrics.report();
+        Assert.assertTrue(report.contains("duplicates2"));
+        Assert.assertTrue(report.contains("checkString"));
+    }
+
+    @Test
+    public void testHistogram() {
+        var h = new Metrics.Histogram();
+        for (int i = 1; i <= 100; ++i) {
+            h.record(i);
+        }
+
+        Assert.assertEquals(100, h.count());
+        Assert.assertEquals(50.5, h.mean(), 0);
+        Assert.assertEquals(1, h.percentile(1));
+        Assert.assertEquals(63, h.percentile(50));
+        Assert.assertEquals(127, h.percentile(100));
+        Assert.assertEquals(0, new Metrics.Histogram().percentile(50));
+    }
+
+    @Test
+    public void testAllocationSampling() {
+        Metrics.setEnabled(true);
+        Metrics.reset();
+
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+        for (int i = 0; i < 10 * Metrics.SAMPLE_RATE; ++i) {
+            InstrumentedSolution.duplicates2(list);
+        }
+
+        if (Metrics.ALLOCATION) {
+            Assert.assertTrue(Metrics.stats("duplicates2").allocatedBytesPerCall() > 0);
+        }
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        Metrics.registerMBean();
+        Metrics.registerMBean(); // No-op the second time
+
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var name = new ObjectName(Metrics.OBJECT_NAME);
+
+        server.setAttribute(name, new javax.management.Attribute("Enabled", true));
+        Assert.assertTrue(Metrics.isEnabled());
+
+        InstrumentedSolution.max(Arrays.asList((short) 1, (short) 5));
+        Assert.assertTrue(((String) server.getAttribute(name, "Report")).contains("max"));
+
+        server.invoke(name, "reset", null, null);
+        Assert.assertTrue(Metrics.STATS.isEmpty());
+    }
+}
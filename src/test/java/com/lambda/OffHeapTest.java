@@ -0,0 +1,73 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for OffHeapIntLists and OffHeapLongs.
+ */
+public class OffHeapTest {
+    @Test
+    public void testSuperSum() {
+        var rnd = new Random(2);
+        var nested = new ArrayList<List<Integer>>();
+        var offHeap = new OffHeapIntLists(1, 1); // Has to grow both buffers
+
+        for (int i = 0; i < 1000; ++i) {
+            var arr = new int[rnd.nextInt(50)];
+            var l = new ArrayList<Integer>();
+            for (int j = 0; j < arr.length; ++j) {
+                arr[j] = rnd.nextInt();
+                l.add(arr[j]);
+            }
+
+            nested.add(l);
+            if (i % 2 == 0) {
+                offHeap.add(arr);
+            } else {
+                offHeap.add(l);
+            }
+        }
+
+        Assert.assertEquals(1000, offHeap.size());
+        Assert.assertEquals(Solution.superSum(nested).intValue(), Solution.superSum(offHeap));
+        for (int i = 0; i < nested.size(); ++i) {
+            Assert.assertEquals(nested.get(i).size(), offHeap.length(i));
+            Assert.assertEquals(Solution.sum(nested.get(i)).intValue(), offHeap.sum(i));
+        }
+    }
+
+    @Test
+    public void testLargeMultiply() {
+        var set = new HashSet<Long>();
+        for (long x = -50; x < 2000; x += 3) {
+            set.add(x);
+        }
+
+        var offHeap = OffHeapLongs.of(set);
+        var expected = Solution.largeMultiply(set);
+        var actual = Solution.largeMultiply(offHeap).toArray();
+
+        Assert.assertEquals(expected.size(), actual.length);
+        for (int i = 0; i < actual.length; ++i) {
+            Assert.assertEquals(expected.get(i).longValue(), actual[i]); // Same iteration order of "set"
+        }
+        Assert.assertEquals(0, Solution.largeMultiply(new OffHeapLongs()).size());
+    }
+
+    @Test
+    public void testTooLarge() {
+        var lists = new OffHeapIntLists().add(new int[] { 1, 2 });
+        Assert.assertThrows(IllegalArgumentException.class, () -> lists.reserve(Integer.MAX_VALUE / Integer.BYTES));
+        Assert.assertEquals(3, lists.superSum()); // Left as it was
+
+        var longs = new OffHeapLongs().add(1);
+        Assert.assertThrows(IllegalArgumentException.class, () -> longs.reserve(Integer.MAX_VALUE / Long.BYTES));
+        Assert.assertEquals(1, longs.size());
+    }
+}
@@ -0,0 +1,60 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for Pipeline against the Solution stream methods.
+ */
+public class PipelineTest {
+    @Test
+    public void testSolutionMethods() {
+        var rnd = new Random(18);
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; ++i) {
+            list.add(rnd.nextInt(2000) - 1000);
+        }
+        var set = new HashSet<Integer>(list);
+        var arr = list.stream().mapToInt(x -> x).toArray();
+
+        Assert.assertEquals(Solution.fizz(set), Pipeline.of(set).filter(x -> x % 3 == 0).toList());
+        Assert.assertEquals(Solution.duplicates2(list), Pipeline.of(list).distinct().toList());
+        Assert.assertEquals(Solution.sum(list).intValue(), Pipeline.of(arr).sum());
+        Assert.assertArrayEquals(Solution.cast(list).stream().mapToDouble(x -> x).toArray(),
+                Pipeline.of(arr).toDoubleArray(), 0);
+
+        // Chained calls against one fused pipeline.
+        Assert.assertEquals(Solution.sum(Solution.duplicates2(Solution.fizz(set))).intValue(),
+                Pipeline.of(set).filter(x -> x % 3 == 0).distinct().sum());
+    }
+
+    @Test
+    public void testChaining() {
+        var p = Pipeline.range(0, 100).map(x -> x % 10).distinct().filter(x -> x > 4).map(x -> x * 2);
+
+        Assert.assertArrayEquals(new int[] { 10, 12, 14, 16, 18 }, p.toArray());
+        Assert.assertArrayEquals(new int[] { 10, 12, 14, 16, 18 }, p.toArray()); // Runs again with a new set
+        Assert.assertEquals(5, p.count());
+        Assert.assertEquals(10 * 12 * 14 * 16 * 18, p.reduce(1, (x, y) -> x * y));
+        Assert.assertEquals(0, Pipeline.of().sum());
+    }
+
+    @Test
+    public void testDistinctSizing() {
+        var arr = new int[10000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = i % 3000;
+        }
+
+        var expected = Pipeline.range(0, 3000).toArray();
+        Assert.assertArrayEquals(expected, Pipeline.of(arr).distinct().toArray());
+        Assert.assertArrayEquals(expected, Solution.duplicates2(arr));
+        // The hint only changes how often the set rehashes.
+        Assert.assertArrayEquals(expected, Pipeline.of(arr).distinct(1).toArray());
+        Assert.assertArrayEquals(expected, Pipeline.of(arr).distinct(arr.length).toArray());
+    }
+}
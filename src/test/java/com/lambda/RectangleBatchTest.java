@@ -0,0 +1,106 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lambda.App.Rectangle;
+
+/**
+ * Unit test for RectangleBatch against the Solution area methods.
+ */
+public class RectangleBatchTest {
+    @Test
+    public void testMatchesSolution() {
+        var app = new App();
+        var rnd = new Random(21);
+        var list = new ArrayList<Rectangle>();
+        for (int i = 0; i < 10000; ++i) {
+            list.add(app.new Rectangle(rnd.nextInt(1000), rnd.nextInt(1000)));
+        }
+        var batch = RectangleBatch.of(list);
+
+        Assert.assertEquals(10000, batch.size());
+        Assert.assertEquals(Solution.averageArea(list).intValue(), batch.averageArea());
+        Assert.assertEquals(Solution.averageArea(list), Solution.averageArea(batch));
+        Assert.assertEquals(Solution.averageAreaWide(list), batch.averageAreaWide());
+        Assert.assertEquals(list.stream().mapToLong(r -> (long) r.getWidth() * r.getHeight()).sum(),
+                batch.totalArea());
+        Assert.assertEquals(list.stream().mapToLong(r -> (long) r.getWidth() * r.getHeight()).min().getAsLong(),
+                batch.minArea());
+        Assert.assertEquals(list.stream().mapToLong(r -> (long) r.getWidth() * r.getHeight()).max().getAsLong(),
+                batch.maxArea());
+    }
+
+    @Test
+    public void testOverflow() {
+        var app = new App();
+        var list = new ArrayList<Rectangle>();
+        var batch = new RectangleBatch();
+        for (int i = 0; i < 3; ++i) {
+            list.add(app.new Rectangle(Integer.MAX_VALUE, Integer.MAX_VALUE));
+            batch.add(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+
+        // Wraps around like the object form.
+        Assert.assertEquals(Solution.averageArea(list).intValue(), batch.averageArea());
+        Assert.assertEquals(Solution.averageAreaWide(list), batch.averageAreaWide());
+        Assert.assertThrows(ArithmeticException.class, () -> batch.totalArea());
+    }
+
+    @Test
+    public void testAppend() {
+        var batch = new RectangleBatch(1);
+        batch.add(2, 3).addAll(new int[] { 1, 4, 5 }, new int[] { 1, 4, 5 }).addAll(new int[] { 9, 7 },
+                new int[] { 9, 7 }, 1, 2);
+
+        Assert.assertEquals(5, batch.size());
+        Assert.assertEquals(7, batch.width(4));
+        Assert.assertEquals(25, batch.area(3));
+        Assert.assertEquals(1, batch.minArea());
+        Assert.assertEquals(49, batch.maxArea());
+        Assert.assertEquals((6 + 1 + 16 + 25 + 49) / 5, batch.averageArea());
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> batch.height(5));
+        Assert.assertThrows(IllegalArgumentException.class, () -> batch.addAll(new int[1], new int[2]));
+
+        // Fails up front instead of on the next store.
+        Assert.assertThrows(IllegalArgumentException.class, () -> batch.reserve(Integer.MAX_VALUE));
+        Assert.assertThrows(IllegalArgumentException.class, () -> batch.reserve(RectangleBatch.MAX_SIZE));
+        Assert.assertEquals(5, batch.size());
+    }
+
+    @Test
+    public void testHistogram() {
+        var batch = new RectangleBatch();
+        for (int i = 0; i < 100; ++i) {
+            batch.add(i, 1);
+        }
+
+        Assert.assertArrayEquals(new long[] { 10, 10, 10, 10, 10, 10, 10, 10, 10, 10 }, batch.histogram(0, 10, 10));
+        // Out of range areas are clamped into the end buckets.
+        Assert.assertArrayEquals(new long[] { 20, 10, 70 }, batch.histogram(10, 10, 3));
+    }
+
+    @Test
+    public void testEmpty() {
+        var batch = new RectangleBatch();
+
+        Assert.assertEquals(0, batch.totalArea());
+        Assert.assertThrows(ArithmeticException.class, () -> batch.averageArea());
+        Assert.assertThrows(ArithmeticException.class, () -> batch.averageAreaWide());
+        Assert.assertThrows(java.util.NoSuchElementException.class, () -> batch.minArea());
+        Assert.assertThrows(java.util.NoSuchElementException.class, () -> batch.maxArea());
+    }
+
+    @Test
+    public void testMemoryUsage() {
+        var batch = new RectangleBatch(1000);
+        for (int i = 0; i < 1000; ++i) {
+            batch.add(i, i);
+        }
+
+        Assert.assertEquals(8 * 1000, batch.memoryUsage());
+    }
+}
@@ -0,0 +1,153 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for ShortFilter.
+ */
+public class ShortFilterTest {
+    // Random shorts ending with a 0 after "n" values.
+    static Supplier<Short> generator(long seed, int n) {
+        var rnd = new Random(seed);
+        var count = new int[] { 0 };
+
+        return () -> {
+            if (count[0]++ == n) {
+                return (short) 0;
+            }
+
+            short x;
+            do {
+                x = (short) rnd.nextInt();
+            } while (x == 0);
+            return x;
+        };
+    }
+
+    @Test
+    public void testStreamingMatchesFilter() {
+        var expected = Solution.filter(generator(1, 10000));
+
+        Assert.assertEquals(expected, ShortFilter.stream(generator(1, 10000)).collect(Collectors.toList()));
+
+        var pushed = new ArrayList<Short>();
+        Assert.assertEquals(expected.size(), ShortFilter.forEach(generator(1, 10000), x -> pushed.add(x)));
+        Assert.assertEquals(expected, pushed);
+
+        var batched = new ArrayList<Short>();
+        var count = ShortFilter.batches(ShortFilter.unboxed(generator(1, 10000)), ShortFilter.ODD, 64, (batch, len) -> {
+            Assert.assertTrue(len <= 64);
+            for (int i = 0; i < len; ++i) {
+                batched.add(batch[i]);
+            }
+            return true;
+        });
+        Assert.assertEquals(expected.size(), count);
+        Assert.assertEquals(expected, batched);
+    }
+
+    @Test
+    public void testStreamIsLazy() {
+        // Never returns 0, so only a lazy stream can finish.
+        short[] next = { 1 };
+        Supplier<Short> endless = () -> next[0]++;
+
+        Assert.assertEquals(Arrays.asList((short) 1, (short) 3, (short) 5),
+                ShortFilter.stream(endless).limit(3).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testBatchesStopEarly() {
+        short[] next = { 1 };
+        var count = ShortFilter.batches(() -> next[0]++, ShortFilter.ODD, 8, (batch, len) -> false);
+
+        Assert.assertEquals(8, count);
+    }
+
+    // Reference implementation: floorMod is 1 for every odd number, negative or not.
+    static List<Short> reference(short[] values, Predicate<Short> pred) {
+        var l = new ArrayList<Short>();
+        for (var x : values) {
+            if (x == 0) {
+                break;
+            }
+            if (pred.test(x)) {
+                l.add(x);
+            }
+        }
+        return l;
+    }
+
+    // Every non zero short once, shuffled, followed by the terminating 0.
+    static short[] allShorts() {
+        var l = new ArrayList<Short>();
+        for (int x = Short.MIN_VALUE; x <= Short.MAX_VALUE; ++x) {
+            if (x != 0) {
+                l.add((short) x);
+            }
+        }
+        Collections.shuffle(l, new Random(5));
+
+        var arr = new short[l.size() + 1];
+        for (int i = 0; i < l.size(); ++i) {
+            arr[i] = l.get(i);
+        }
+        return arr;
+    }
+
+    static ShortFilter.ShortSupplier supplier(short[] values) {
+        var i = new int[] { 0 };
+        return () -> values[i[0]++];
+    }
+
+    @Test
+    public void testOddDifferential() {
+        var values = allShorts();
+        var expected = reference(values, x -> Math.floorMod(x, 2) == 1);
+
+        Assert.assertEquals(32768, expected.size());
+        var boxed = supplier(values);
+        Assert.assertEquals(expected, Solution.filter(() -> boxed.getAsShort()));
+        Assert.assertEquals(expected, ShortFilter.filter(supplier(values), ShortFilter.ODD));
+        Assert.assertEquals(expected,
+                ShortFilter.stream(supplier(values), ShortFilter.ODD).collect(Collectors.toList()));
+
+        for (var size : new int[] { 1, 7, 1024, 100000 }) {
+            var batched = new ArrayList<Short>();
+            ShortFilter.batches(supplier(values), ShortFilter.ODD, size, (batch, len) -> {
+                for (int i = 0; i < len; ++i) {
+                    batched.add(batch[i]);
+                }
+                return true;
+            });
+            Assert.assertEquals(expected, batched);
+        }
+    }
+
+    @Test
+    public void testPredicateDifferential() {
+        var values = allShorts();
+        Predicate<Short> pred = x -> x < -100 || x % 7 == 3;
+
+        Assert.assertEquals(reference(values, pred), ShortFilter.filter(supplier(values), ShortFilter.of(pred)));
+    }
+
+    @Test
+    public void testCompact() {
+        var in = new short[] { 1, -3, 4, -6, 7, Short.MIN_VALUE, Short.MAX_VALUE };
+        var out = new short[in.length];
+
+        Assert.assertEquals(4, ShortFilter.compact(in, in.length, ShortFilter.ODD, out));
+        Assert.assertArrayEquals(new short[] { 1, -3, 7, Short.MAX_VALUE }, Arrays.copyOf(out, 4));
+    }
+}
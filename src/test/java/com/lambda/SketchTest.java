@@ -0,0 +1,169 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for HyperLogLog and BloomFilter against the exact HashSet path of
+ * Solution.duplicates.
+ */
+public class SketchTest {
+    // "distinct" random values, each repeated up to 3 times, shuffled.
+    static ArrayList<Long> input(long seed, int distinct) {
+        var rnd = new Random(seed);
+        var list = new ArrayList<Long>();
+        for (int i = 0; i < distinct; ++i) {
+            long x = rnd.nextLong();
+            for (int j = rnd.nextInt(3); j >= 0; --j) {
+                list.add(x);
+            }
+        }
+        java.util.Collections.shuffle(list, rnd);
+        return list;
+    }
+
+    @Test
+    public void testAccuracy() {
+        for (int distinct : new int[] { 10, 1000, 100000, 1000000 }) {
+            var list = input(distinct, distinct);
+            int exact = Solution.duplicates(list).size();
+
+            for (double error : new double[] { 0.05, 0.01 }) {
+                var sketch = Solution.duplicatesSketch(list, error, Execution.SEQUENTIAL);
+                Assert.assertTrue(sketch.relativeError() <= error);
+
+                // Within 4 standard errors.
+                double actual = Math.abs(sketch.estimate() - exact) / (double) exact;
+                Assert.assertTrue(distinct + " " + error + ": " + actual, actual <= 4 * sketch.relativeError());
+                Assert.assertEquals(sketch.estimate(), Solution.duplicatesCount(list, error));
+            }
+        }
+    }
+
+    @Test
+    public void testMemory() {
+        var list = input(1, 1000000);
+        var sketch = Solution.duplicatesSketch(list, 0.01, Execution.SEQUENTIAL);
+        var exact = new LongHashSet();
+        for (long x : list) {
+            exact.add(x);
+        }
+        var filter = Solution.duplicatesFilter(list, 0.01);
+
+        // 16 KB, against 16 MB for even the unboxed set (a HashSet<Long> takes
+        // about 3 times that again).
+        Assert.assertEquals(16384, sketch.memoryUsage());
+        Assert.assertTrue(exact.memoryUsage() > 1000 * sketch.memoryUsage());
+        // About 1.2 bytes per value of list.size().
+        Assert.assertTrue(filter.memoryUsage() < 1.3 * list.size());
+    }
+
+    @Test
+    public void testMerge() {
+        var list = input(2, 200000);
+        var whole = HyperLogLog.withError(0.01);
+        var parts = new HyperLogLog[] { HyperLogLog.withError(0.01), HyperLogLog.withError(0.01),
+                HyperLogLog.withError(0.01) };
+        for (int i = 0; i < list.size(); ++i) {
+            whole.add(list.get(i));
+            parts[i % 3].add(list.get(i));
+        }
+
+        // Registers only keep maxima, so merging is exact.
+        Assert.assertEquals(whole.estimate(), parts[0].merge(parts[1]).merge(parts[2]).estimate());
+        Assert.assertEquals(whole.estimate(),
+                Solution.duplicatesSketch(list, 0.01, Execution.commonPool(1)).estimate());
+        Assert.assertThrows(IllegalArgumentException.class, () -> whole.merge(new HyperLogLog(4)));
+
+        var filter = Solution.duplicatesFilter(list, 0.01);
+        var parallel = Solution.duplicatesFilter(list, 0.01, Execution.commonPool(1));
+        Assert.assertArrayEquals(filter.words, parallel.words);
+    }
+
+    @Test
+    public void testBloomFilter() {
+        var list = input(3, 100000);
+        var exact = new HashSet<Long>(list);
+        var filter = new BloomFilter(exact.size(), 0.01);
+        for (long x : list) {
+            filter.add(x);
+        }
+
+        for (long x : exact) {
+            Assert.assertTrue(filter.mightContain(x)); // No false negatives
+        }
+
+        var rnd = new Random(4);
+        int positives = 0, tries = 100000;
+        for (int i = 0; i < tries; ++i) {
+            long x = rnd.nextLong();
+            if (!exact.contains(x) && filter.mightContain(x)) {
+                ++positives;
+            }
+        }
+        Assert.assertTrue("fpp " + (double) positives / tries, positives < 0.015 * tries);
+        Assert.assertEquals(0.01, filter.fpp(), 0.005);
+
+        var small = new BloomFilter(100, 0.01);
+        Assert.assertTrue(small.add(42));
+        Assert.assertFalse(small.add(42));
+        Assert.assertThrows(IllegalArgumentException.class, () -> small.merge(filter));
+    }
+
+    @Test
+    public void testDuplicates2() {
+        var rnd = new Random(5);
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; ++i) {
+            list.add(rnd.nextInt(50000));
+        }
+        int exact = Solution.duplicates2(list).size();
+
+        double actual = Math.abs(Solution.duplicates2Count(list, 0.02) - exact) / (double) exact;
+        Assert.assertTrue(actual <= 0.08);
+        Assert.assertEquals(Solution.duplicates2Count(list, 0.02),
+                Solution.duplicates2Sketch(list, 0.02, Execution.commonPool(1)).estimate());
+    }
+
+    @Test
+    public void testArguments() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        Assert.assertThrows(IllegalArgumentException.class, () -> HyperLogLog.withError(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> HyperLogLog.withError(0.002));
+        Assert.assertEquals(HyperLogLog.MAX_PRECISION, HyperLogLog.withError(0.0026).precision());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1));
+        Assert.assertEquals(0, new HyperLogLog(10).estimate());
+    }
+
+    @Test
+    public void testConcurrentFill() throws InterruptedException {
+        var list = input(6, 100000);
+        var sequential = new BloomFilter(list.size(), 0.01);
+        for (long x : list) {
+            sequential.add(x);
+        }
+
+        var shared = new BloomFilter(list.size(), 0.01);
+        var threads = new Thread[4];
+        for (int t = 0; t < threads.length; ++t) {
+            int from = t * list.size() / threads.length, to = (t + 1) * list.size() / threads.length;
+            threads[t] = new Thread(() -> {
+                for (int i = from; i < to; ++i) {
+                    shared.addConcurrent(list.get(i));
+                }
+            });
+            threads[t].start();
+        }
+        for (var t : threads) {
+            t.join();
+        }
+
+        // No bit lost to a racing update.
+        Assert.assertArrayEquals(sequential.words, shared.words);
+    }
+}
@@ -0,0 +1,280 @@
+package com.lambda;
+
+import java.math.BigInteger;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for the additions to Solution.
+ */
+public class SolutionTest {
+    @Test
+    public void testPrimitiveSum() {
+        var arr = new int[] { 1, 2, 3, Integer.MAX_VALUE };
+        var list = Arrays.asList(1, 2, 3, Integer.MAX_VALUE);
+
+        Assert.assertEquals(Solution.sum(list).intValue(), Solution.sum(arr));
+        Assert.assertEquals(Solution.sum(list).intValue(), Solution.sum(IntBuffer.wrap(arr)));
+        Assert.assertEquals(0, Solution.sum(new int[0]));
+    }
+
+    @Test
+    public void testPrimitiveMax() {
+        var arr = new short[] { -5, 300, Short.MIN_VALUE, 7 };
+        var list = Arrays.asList((short) -5, (short) 300, Short.MIN_VALUE, (short) 7);
+
+        Assert.assertEquals(Solution.max(list).shortValue(), Solution.max(arr));
+        Assert.assertEquals(Solution.max(list).shortValue(), Solution.max(ShortBuffer.wrap(arr)));
+        Assert.assertEquals(7, Solution.max(ShortBuffer.wrap(arr, 3, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrimitiveMaxEmpty() {
+        Solution.max(new short[0]);
+    }
+
+    @Test
+    public void testPrimitiveMultiply() {
+        var arr = new long[] { 3, -7, Long.MAX_VALUE, 11 };
+        var list = Arrays.asList(3l, -7l, Long.MAX_VALUE, 11l);
+
+        Assert.assertEquals(Solution.multiply(list).longValue(), Solution.multiply(arr));
+        Assert.assertEquals(Solution.multiply(list).longValue(), Solution.multiply(LongBuffer.wrap(arr)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testPrimitiveMultiplyEmpty() {
+        Solution.multiply(new long[0]);
+    }
+
+    @Test
+    public void testPrimitiveCast() {
+        var arr = new int[] { 2, -3, Integer.MIN_VALUE };
+        var expected = Solution.cast(Arrays.asList(2, -3, Integer.MIN_VALUE)).stream().mapToDouble(x -> x)
+                .toArray();
+
+        Assert.assertArrayEquals(expected, Solution.cast(arr), 0);
+        Assert.assertArrayEquals(expected, Solution.cast(IntBuffer.wrap(arr)), 0);
+    }
+
+    @Test
+    public void testBubbleSort() {
+        var arr = Arrays.asList(3., 5., 2., 10., 4., 6.);
+        Assert.assertArrayEquals(Arrays.asList(10., 6., 5., 4., 3., 2.).toArray(),
+                Solution.bubbleSort(arr, Double::compare).toArray());
+    }
+
+    @Test
+    public void testBubbleSortLarge() {
+        var rnd = new Random(7);
+        var expected = new ArrayList<Double>();
+        for (int i = 0; i < 5000; ++i) {
+            expected.add((double) rnd.nextInt(100));
+        }
+
+        var linked = new LinkedList<Double>(expected);
+        var natural = new ArrayList<Double>(expected);
+        var reversed = new ArrayList<Double>(expected);
+        expected.sort(Comparator.reverseOrder());
+
+        Assert.assertEquals(expected, Solution.bubbleSort(linked, Double::compare));
+        Assert.assertEquals(expected, Solution.bubbleSort(natural, SortEngine.NATURAL));
+
+        Collections.reverse(expected);
+        Assert.assertEquals(expected, Solution.bubbleSort(reversed, SortEngine.REVERSED));
+    }
+
+    @Test
+    public void testBubbleSortStable() {
+        // Only compares the integer part, so 1.5 and 1.2 must keep their order.
+        Comparator<Double> comp = (x, y) -> Integer.compare(x.intValue(), y.intValue());
+        var small = Arrays.asList(1.5, 3., 1.2, 2.);
+        var large = new ArrayList<Double>();
+        for (int i = 0; i < 100; ++i) {
+            large.add(i % 10 + i / 1000.);
+        }
+
+        Assert.assertEquals(Arrays.asList(3., 2., 1.5, 1.2), Solution.bubbleSort(small, comp));
+
+        Solution.bubbleSort(large, comp);
+        for (int i = 1; i < large.size(); ++i) {
+            var a = large.get(i - 1);
+            var b = large.get(i);
+            Assert.assertTrue(a.intValue() > b.intValue() || (a.intValue() == b.intValue() && a < b));
+        }
+    }
+
+    @Test
+    public void testParallelExecution() {
+        var rnd = new Random(3);
+        var ints = new ArrayList<Integer>();
+        var longs = new ArrayList<Long>();
+        for (int i = 0; i < 50000; ++i) {
+            ints.add(rnd.nextInt(1000));
+            longs.add((long) rnd.nextInt(1000));
+        }
+
+        var nested = new ArrayList<List<Integer>>();
+        for (int i = 0; i < ints.size(); i += 100) {
+            nested.add(ints.subList(i, i + 100));
+        }
+
+        var set = new HashSet<Integer>(ints);
+        var longSet = new HashSet<Long>(longs);
+
+        var pool = new ForkJoinPool(4);
+        try {
+            for (var exec : Arrays.asList(Execution.commonPool(0), Execution.pool(pool, 0), Execution.pool(pool))) {
+                Assert.assertEquals(Solution.duplicates2(ints), Solution.duplicates2(ints, exec));
+                Assert.assertEquals(Solution.cast(ints), Solution.cast(ints, exec));
+                Assert.assertEquals(Solution.sum(ints), Solution.sum(ints, exec));
+                Assert.assertEquals(Solution.superSum(nested), Solution.superSum(nested, exec));
+                Assert.assertEquals(Solution.duplicates(longs), Solution.duplicates(longs, exec));
+                Assert.assertEquals(new HashSet<Integer>(Solution.fizz(set)),
+                        new HashSet<Integer>(Solution.fizz(set, exec)));
+                Assert.assertEquals(new HashSet<Long>(Solution.largeMultiply(longSet)),
+                        new HashSet<Long>(Solution.largeMultiply(longSet, exec)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSumOverflow() {
+        var small = Arrays.asList(1, -2, 3);
+        var large = Arrays.asList(Integer.MAX_VALUE, Integer.MAX_VALUE, 1);
+
+        Assert.assertEquals(2, Solution.sumExact(small));
+        Assert.assertEquals(2l, Solution.sumWide(small));
+        Assert.assertEquals(2l * Integer.MAX_VALUE + 1, Solution.sumWide(large));
+        Assert.assertThrows(ArithmeticException.class, () -> Solution.sumExact(large));
+    }
+
+    @Test
+    public void testMultiplyOverflow() {
+        var small = Arrays.asList(3l, -7l, 11l);
+        var large = Arrays.asList(Long.MAX_VALUE, 3l, -2l);
+
+        Assert.assertEquals(Solution.multiply(small).longValue(), Solution.multiplyExact(small));
+        Assert.assertEquals(BigInteger.valueOf(-231), Solution.multiplyWide(small));
+        Assert.assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(-6)),
+                Solution.multiplyWide(large));
+        Assert.assertEquals(BigInteger.valueOf(Long.MIN_VALUE),
+                Solution.multiplyWide(Arrays.asList(Long.MIN_VALUE / 2, 2l)));
+        Assert.assertThrows(ArithmeticException.class, () -> Solution.multiplyExact(large));
+    }
+
+    @Test
+    public void testAverageAreaOverflow() {
+        var app = new App();
+        var small = Arrays.asList(app.new Rectangle(2, 3), app.new Rectangle(4, 5));
+        var large = new ArrayList<App.Rectangle>();
+        for (int i = 0; i < 5; ++i) {
+            large.add(app.new Rectangle(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        }
+        large.add(app.new Rectangle(1, 1));
+
+        var expected = BigInteger.valueOf(Integer.MAX_VALUE).pow(2).multiply(BigInteger.valueOf(5))
+                .add(BigInteger.ONE).divide(BigInteger.valueOf(6));
+
+        Assert.assertEquals(Solution.averageArea(small).longValue(), Solution.averageAreaWide(small));
+        Assert.assertEquals(expected.longValueExact(), Solution.averageAreaWide(large));
+    }
+
+    @Test
+    public void testPrimitiveDuplicates() {
+        var rnd = new Random(11);
+        var ints = new int[100000];
+        var longs = new long[100000];
+        for (int i = 0; i < ints.length; ++i) {
+            ints[i] = rnd.nextInt(5000) - 2500; // Includes 0 and negatives
+            longs[i] = rnd.nextInt(5000) * 0x100000000L;
+        }
+
+        var boxedInts = new ArrayList<Integer>();
+        var boxedLongs = new ArrayList<Long>();
+        for (int i = 0; i < ints.length; ++i) {
+            boxedInts.add(ints[i]);
+            boxedLongs.add(longs[i]);
+        }
+
+        var expected2 = Solution.duplicates2(boxedInts).stream().mapToInt(x -> x).toArray();
+        Assert.assertArrayEquals(expected2, Solution.duplicates2(ints));
+
+        var set = new HashSet<Long>();
+        for (var x : Solution.duplicates(longs)) {
+            Assert.assertTrue(set.add(x));
+        }
+        Assert.assertEquals(Solution.duplicates(boxedLongs), set);
+    }
+
+    @Test
+    public void testLargeMultiplyView() {
+        var set = new HashSet<Long>();
+        var rnd = new Random(8);
+        for (int i = 0; i < 50000; ++i) {
+            set.add((long) rnd.nextInt() - 5);
+        }
+
+        var expected = Solution.largeMultiply(set);
+        var pool = new ForkJoinPool(3);
+        try {
+            Assert.assertEquals(expected, Solution.largeMultiplyView(set));
+            Assert.assertEquals(expected, Solution.largeMultiplyView(set, Execution.pool(pool, 0)));
+            Assert.assertEquals(expected.hashCode(), Solution.largeMultiplyView(set).hashCode());
+        } finally {
+            pool.shutdown();
+        }
+
+        Assert.assertTrue(Solution.largeMultiplyView(new HashSet<Long>()).isEmpty());
+    }
+
+    @Test
+    public void testSharedFactories() {
+        Assert.assertSame(Solution.minimum(), Solution.minimum());
+        Assert.assertSame(Solution.compare(), Solution.compare());
+        Assert.assertSame(Solution.digit(), Solution.digit());
+        Assert.assertSame(Solution.time(), Solution.time());
+        Assert.assertSame(Solution.<String>printer(), Solution.<Integer>printer());
+    }
+
+    @Test
+    public void testTimeCache() {
+        var cache = new TimeCache(2, Solution.time());
+        var a = LocalDate.of(2022, 3, 11);
+        var b = LocalDate.of(1999, 12, 1);
+        var c = LocalDate.of(-5, 1, 31);
+
+        Assert.assertEquals("2022-3-11", cache.apply(a));
+        Assert.assertEquals("2022-3-11", cache.apply(a));
+        Assert.assertEquals(Solution.time().apply(b), cache.apply(b));
+        Assert.assertEquals(1, cache.hits());
+        Assert.assertEquals(2, cache.misses());
+
+        cache.apply(a); // a is now more recently used than b
+        Assert.assertEquals(Solution.time().apply(c), cache.apply(c));
+        Assert.assertEquals(1, cache.evictions());
+        Assert.assertEquals(2, cache.size());
+
+        cache.apply(a);
+        Assert.assertEquals(3, cache.hits());
+        cache.apply(b); // Was evicted
+        Assert.assertEquals(4, cache.misses());
+    }
+}
@@ -0,0 +1,128 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for SuperSum over uniform, skewed and odd shaped nested lists.
+ */
+public class SuperSumTest {
+    static long expected(List<List<Integer>> list) {
+        return list.stream().mapToLong(x -> x.stream().mapToLong(y -> y).sum()).sum();
+    }
+
+    static List<List<Integer>> skewed(Random rnd) {
+        var list = new ArrayList<List<Integer>>();
+        for (int i = 0; i < 3; ++i) {
+            var huge = new ArrayList<Integer>();
+            for (int j = 0; j < 50000; ++j) {
+                huge.add(rnd.nextInt());
+            }
+            list.add(huge);
+        }
+        for (int i = 0; i < 20000; ++i) {
+            var tiny = new ArrayList<Integer>();
+            for (int j = rnd.nextInt(3); j > 0; --j) {
+                tiny.add(rnd.nextInt());
+            }
+            list.add(tiny);
+        }
+        Collections.shuffle(list, rnd);
+        return list;
+    }
+
+    @Test
+    public void testSkewed() {
+        var list = skewed(new Random(22));
+        var pool = new ForkJoinPool(4);
+        try {
+            for (int grain : new int[] { 1, 7, 1000, SuperSum.DEFAULT_GRAIN, Integer.MAX_VALUE }) {
+                var engine = new SuperSum(list, grain);
+                Assert.assertEquals(expected(list), engine.sum());
+                Assert.assertEquals(expected(list), engine.sum(Execution.pool(pool, 1)));
+                Assert.assertEquals(expected(list), engine.sum(Execution.commonPool(1)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // Solution keeps the low 32 bits of the long sum, as int overflow would.
+        Assert.assertEquals((int) expected(list), Solution.superSum(list).intValue());
+        Assert.assertEquals((int) expected(list), Solution.superSum(list, Execution.commonPool(1)).intValue());
+    }
+
+    @Test
+    public void testUniform() {
+        var rnd = new Random(23);
+        var list = new ArrayList<List<Integer>>();
+        for (int i = 0; i < 1000; ++i) {
+            var l = new ArrayList<Integer>();
+            for (int j = 0; j < 100; ++j) {
+                l.add(rnd.nextInt(1000));
+            }
+            list.add(l);
+        }
+
+        var engine = new SuperSum(list, 64);
+        Assert.assertEquals(100000, engine.size());
+        Assert.assertEquals(expected(list), engine.sum(Execution.commonPool(1)));
+    }
+
+    @Test
+    public void testOddShapes() {
+        Assert.assertEquals(0, new SuperSum(List.of()).sum(Execution.commonPool(0)));
+        Assert.assertEquals(0, new SuperSum(List.of(List.of(), List.of())).sum(Execution.commonPool(0)));
+
+        // Non random access lists, empty lists around the chunk borders.
+        var list = new ArrayList<List<Integer>>();
+        list.add(List.of());
+        list.add(new LinkedList<Integer>(List.of(1, 2, 3, 4, 5)));
+        list.add(List.of());
+        list.add(List.of());
+        list.add(new LinkedList<Integer>(List.of(6, 7)));
+        list.add(List.of(8));
+        list.add(List.of());
+
+        for (int grain = 1; grain <= 9; ++grain) {
+            Assert.assertEquals(36, new SuperSum(list, grain).sum(Execution.commonPool(0)));
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> new SuperSum(list, 0));
+    }
+
+    @Test(timeout = 10_000)
+    public void testHugeLinkedList() {
+        var huge = new LinkedList<Integer>();
+        for (int i = 0; i < 1_000_000; ++i) {
+            huge.add(i % 1000);
+        }
+        var list = List.<List<Integer>>of(huge, List.of(1, 2, 3));
+
+        // Split into many small chunks, each must not walk the list from its head.
+        var engine = new SuperSum(list, 64);
+        Assert.assertEquals(expected(list), engine.sum());
+        Assert.assertEquals(expected(list), engine.sum(Execution.commonPool(1)));
+    }
+
+    @Test
+    public void testSequentialDoesNotCopy() {
+        // Copying into an ArrayList goes through toArray().
+        @SuppressWarnings("serial")
+        var rows = new LinkedList<Integer>(List.of(1, 2, 3)) {
+            @Override
+            public Object[] toArray() {
+                throw new AssertionError("copied");
+            }
+        };
+        List<List<Integer>> list = List.of(rows, List.of(4));
+
+        Assert.assertEquals(10, new SuperSum(list, 1).sum());
+        Assert.assertEquals(10, Solution.superSum(list).intValue());
+    }
+}
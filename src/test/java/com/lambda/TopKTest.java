@@ -0,0 +1,88 @@
+package com.lambda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for TopK against sorting everything.
+ */
+public class TopKTest {
+    static List<Integer> ints(int n, int bound) {
+        var rnd = new Random(17);
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < n; ++i) {
+            l.add(rnd.nextInt(bound) - bound / 2);
+        }
+        return l;
+    }
+
+    @Test
+    public void testCollections() {
+        for (var bound : new int[] { 5, 1000000 }) { // Many and few duplicates
+            var l = ints(20000, bound);
+            var desc = new ArrayList<Integer>(l);
+            desc.sort(Comparator.reverseOrder());
+            var asc = new ArrayList<Integer>(l);
+            asc.sort(Comparator.naturalOrder());
+
+            for (var k : new int[] { 0, 1, 10, 20000, 30000 }) {
+                int n = Math.min(k, l.size());
+
+                Assert.assertEquals(desc.subList(0, n), TopK.top(l, k, Integer::compare));
+                Assert.assertEquals(asc.subList(0, n), TopK.bottom(l, k, Integer::compare));
+                Assert.assertEquals(desc.subList(0, n), l.parallelStream().collect(TopK.top(k, Integer::compare)));
+                Assert.assertEquals(asc.subList(0, n),
+                        l.parallelStream().collect(TopK.bottom(k, Integer::compare)));
+                Assert.assertEquals(desc.subList(0, n),
+                        TopK.top(l, k, Integer::compare, Execution.commonPool(0)));
+            }
+        }
+    }
+
+    @Test
+    public void testArrays() {
+        for (var bound : new int[] { 5, 1000000 }) {
+            var arr = ints(20000, bound).stream().mapToInt(x -> x).toArray();
+            var doubles = Arrays.stream(arr).mapToDouble(x -> x / 3.).toArray();
+            doubles[0] = Double.NaN;
+            doubles[1] = -0.;
+
+            var sorted = arr.clone();
+            Arrays.sort(sorted);
+            var sortedDoubles = doubles.clone();
+            Arrays.sort(sortedDoubles);
+
+            for (var k : new int[] { 0, 1, 10, 20000, 30000 }) {
+                int n = Math.min(k, arr.length);
+
+                var bottom = Arrays.copyOf(sorted, n);
+                var top = Arrays.copyOfRange(sorted, arr.length - n, arr.length);
+                var topList = Arrays.stream(top).boxed().sorted(Comparator.reverseOrder())
+                        .collect(Collectors.toList());
+
+                Assert.assertArrayEquals(bottom, TopK.bottom(arr, k));
+                Assert.assertEquals(topList, Arrays.stream(TopK.top(arr, k)).boxed().collect(Collectors.toList()));
+
+                var bottomDoubles = Arrays.copyOf(sortedDoubles, n);
+                Assert.assertArrayEquals(bottomDoubles, TopK.bottom(doubles, k), 0);
+
+                var topDoubles = TopK.top(doubles, k);
+                for (int i = 0; i < n; ++i) {
+                    Assert.assertEquals(0, Double.compare(sortedDoubles[arr.length - 1 - i], topDoubles[i]));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeK() {
+        TopK.top(new int[] { 1 }, -1);
+    }
+}